@@ -0,0 +1,74 @@
+package com.musicplayer.benchmark;
+
+import com.musicplayer.MusicPlayerApplication;
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.SongRepository;
+import com.musicplayer.service.SongImportService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkData {
+
+    static final String[] WORDS = {
+            "love", "water", "lagos", "money", "night", "party", "dance", "river", "fire", "gold",
+            "summer", "street", "soul", "rain", "city", "heart", "dream", "star", "road", "home"
+    };
+
+    private static final String[] ARTISTS = {
+            "Burna Boy", "Wizkid", "Tems", "Asake", "Rema", "Davido", "Tyla", "Ayra Starr", "Fela Kuti", "Sauti Sol"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return start(List.of());
+    }
+
+    static ConfigurableApplicationContext startWithoutCaches() {
+        return start(List.of("--musicplayer.cache.song-ttl=0s", "--musicplayer.cache.search-ttl=0s"));
+    }
+
+    private static ConfigurableApplicationContext start(List<String> overrides) {
+        List<String> args = new ArrayList<>(List.of("--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--musicplayer.search.empty-as-not-found=false",
+                "--spring.main.banner-mode=off"));
+        args.addAll(overrides);
+        return new SpringApplicationBuilder(MusicPlayerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+    }
+
+    static List<Song> songs(int count) {
+        Random random = new Random(42);
+        List<Song> songs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Song song = new Song();
+            song.setTitle(word(random) + " " + word(random) + " " + i);
+            song.setArtist(ARTISTS[random.nextInt(ARTISTS.length)]);
+            song.setAlbum(random.nextInt(4) == 0 ? null : word(random) + " " + word(random));
+            song.setDuration(120 + random.nextInt(400));
+            song.setReleaseYear(1970 + random.nextInt(55));
+            songs.add(song);
+        }
+        return songs;
+    }
+
+    static long[] seed(ConfigurableApplicationContext context, int count) {
+        context.getBean(SongRepository.class).deleteAllInBatch();
+        List<Song> songs = songs(count);
+        context.getBean(SongImportService.class).importSongs(songs.iterator());
+        return songs.stream().mapToLong(Song::getId).toArray();
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,55 @@
+package com.musicplayer.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.musicplayer.exception.GlobalExceptionHandler;
+import com.musicplayer.exception.SongNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String MESSAGE = "No songs found with title: nothing";
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", "/songs/search/title");
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+    }
+
+    @Benchmark
+    public byte[] notFoundWithStackTrace() throws JsonProcessingException {
+        return writer.writeValueAsBytes(
+                handler.handleSongNotFound(new SongNotFoundException(MESSAGE), request).getBody());
+    }
+
+    @Benchmark
+    public byte[] notFoundWithoutStackTrace() throws JsonProcessingException {
+        return writer.writeValueAsBytes(
+                handler.handleSongNotFound(SongNotFoundException.withoutStackTrace(MESSAGE), request).getBody());
+    }
+}
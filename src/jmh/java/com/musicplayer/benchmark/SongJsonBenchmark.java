@@ -0,0 +1,62 @@
+package com.musicplayer.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.musicplayer.model.Song;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SongJsonBenchmark {
+
+    @Param({ "1", "100" })
+    public int songs;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Object value;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Song> list = BenchmarkData.songs(songs);
+        list.forEach(song -> song.setId((long) song.getTitle().hashCode()));
+        value = songs == 1 ? list.get(0) : list;
+        writer = objectMapper.writerFor(songs == 1 ? Song.class : List.class);
+        reader = songs == 1
+                ? objectMapper.readerFor(Song.class)
+                : objectMapper.readerForListOf(Song.class);
+        json = writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return reader.readValue(json);
+    }
+}
@@ -0,0 +1,61 @@
+package com.musicplayer.benchmark;
+
+import com.musicplayer.model.Song;
+import com.musicplayer.service.SongService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SongServiceUncachedBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int songs;
+
+    private ConfigurableApplicationContext context;
+    private SongService songService;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startWithoutCaches();
+        ids = BenchmarkData.seed(context, songs);
+        songService = context.getBean(SongService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Song getSongByIdUncached() {
+        return songService.getSongById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public List<Song> searchSongsUncached() {
+        String word = BenchmarkData.WORDS[ThreadLocalRandom.current().nextInt(BenchmarkData.WORDS.length)];
+        return songService.searchSongs(word, "", "");
+    }
+}
@@ -0,0 +1,129 @@
+package com.musicplayer.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+public class CatalogGenerator {
+
+    static final String[] WORDS = {
+            "love", "water", "lagos", "money", "night", "party", "dance", "river", "fire", "gold",
+            "summer", "street", "soul", "rain", "city", "heart", "dream", "star", "road", "home",
+            "sun", "moon", "blue", "wild", "free", "young", "sweet", "electric", "golden", "midnight"
+    };
+
+    private static final int BATCH_SIZE = 1000;
+
+    record Row(String title, String artist, String album, int duration, int releaseYear) {
+    }
+
+    private final long rows;
+    private final ZipfDistribution artistDistribution;
+    private final ZipfDistribution albumDistribution;
+    private final long seed;
+
+    CatalogGenerator(long rows, int artists, int albumsPerArtist, double skew, long seed) {
+        this.rows = rows;
+        this.artistDistribution = new ZipfDistribution(artists, skew);
+        this.albumDistribution = new ZipfDistribution(albumsPerArtist, skew);
+        this.seed = seed;
+    }
+
+    static CatalogGenerator from(Options options) {
+        return new CatalogGenerator(
+                options.getLong("rows", 1_000_000),
+                options.getInt("artists", 10_000),
+                options.getInt("albums-per-artist", 8),
+                options.getDouble("skew", 1.1),
+                options.getLong("seed", 42));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        CatalogGenerator generator = from(options);
+        long started = System.nanoTime();
+        if (options.has("csv")) {
+            generator.writeCsv(Path.of(options.get("csv")));
+        } else if (options.has("jdbc-url")) {
+            generator.insert(options.get("jdbc-url"), options.get("user", "root"), options.get("password", ""));
+        } else {
+            throw new IllegalArgumentException("Pass --csv=<file> or --jdbc-url=<url> [--user=..] [--password=..]");
+        }
+        System.out.printf("Generated %,d songs in %.1f s%n", generator.rows, (System.nanoTime() - started) / 1e9);
+    }
+
+    void forEach(Consumer<Row> consumer) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long i = 0; i < rows; i++) {
+            int artist = artistDistribution.sample(random);
+            String album = random.nextInt(100) < 15
+                    ? null
+                    : "Album " + artist + "-" + (albumDistribution.sample(random) + 1);
+            consumer.accept(new Row(
+                    word(random) + " " + word(random) + " " + i,
+                    "Artist " + artist,
+                    album,
+                    120 + random.nextInt(360),
+                    2024 - (int) Math.min(64, Math.abs(random.nextGaussian() * 15))));
+        }
+    }
+
+    void writeCsv(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("title,artist,album,duration,release_year\n");
+            forEach(row -> {
+                try {
+                    writer.write(row.title() + ',' + row.artist() + ',' + (row.album() == null ? "" : row.album())
+                            + ',' + row.duration() + ',' + row.releaseYear() + '\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    void insert(String url, String user, String password) throws SQLException {
+        String sql = "insert into song (title, artist, album, duration, release_year, version) values (?, ?, ?, ?, ?, 0)";
+        try (Connection connection = DriverManager.getConnection(url, user, password);
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            long[] pending = { 0 };
+            forEach(row -> {
+                try {
+                    statement.setString(1, row.title());
+                    statement.setString(2, row.artist());
+                    if (row.album() == null) {
+                        statement.setNull(3, Types.VARCHAR);
+                    } else {
+                        statement.setString(3, row.album());
+                    }
+                    statement.setInt(4, row.duration());
+                    statement.setInt(5, row.releaseYear());
+                    statement.addBatch();
+                    if (++pending[0] % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                        connection.commit();
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Insert failed after " + pending[0] + " rows", e);
+                }
+            });
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,52 @@
+package com.musicplayer.loadtest;
+
+import java.util.Arrays;
+
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    static Summary summarize(Iterable<LatencyRecorder> recorders) {
+        int total = 0;
+        long errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.count;
+            errors += recorder.errors;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.count);
+            offset += recorder.count;
+        }
+        Arrays.sort(merged);
+        return new Summary(merged, errors);
+    }
+
+    record Summary(long[] sorted, long errors) {
+
+        int count() {
+            return sorted.length;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.musicplayer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicplayer.MusicPlayerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LoadTest {
+
+    enum Operation {
+        BY_ID, PAGE, SEARCH, WRITE
+    }
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BROWSED_PAGES = 100;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final int concurrency;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+    private final double skew;
+    private long minId;
+    private ZipfDistribution idDistribution;
+    private ZipfDistribution pageDistribution;
+
+    LoadTest(String baseUrl, int concurrency, Map<Operation, Integer> mix, double skew) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.skew = skew;
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("Workload mix must have at least one positive weight");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.BY_ID, options.getInt("by-id", 60));
+        mix.put(Operation.PAGE, options.getInt("page", 20));
+        mix.put(Operation.SEARCH, options.getInt("search", 15));
+        mix.put(Operation.WRITE, options.getInt("write", 5));
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("base-url");
+        try {
+            if (baseUrl == null) {
+                Path directory = Files.createTempDirectory("musicplayer-loadtest");
+                CatalogGenerator.from(options).writeCsv(directory.resolve("catalog.csv"));
+                context = startEmbedded(directory, options.get("profiles", ""));
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+            LoadTest loadTest = new LoadTest(baseUrl, options.getInt("concurrency", 32), mix,
+                    options.getDouble("skew", 1.1));
+            if (context != null) {
+                loadTest.importCatalog("catalog.csv");
+            }
+            loadTest.resolveIds();
+            loadTest.run(options.getDuration("warmup", Duration.ofSeconds(10)), false);
+            loadTest.run(options.getDuration("duration", Duration.ofSeconds(30)), context != null);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startEmbedded(Path importDirectory, String profiles) {
+        List<String> active = new ArrayList<>(List.of("test"));
+        for (String profile : profiles.split(",")) {
+            if (!profile.isBlank()) {
+                active.add(profile.trim());
+            }
+        }
+        return new SpringApplicationBuilder(MusicPlayerApplication.class)
+                .profiles(active.toArray(String[]::new))
+                .run("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--spring.main.banner-mode=off",
+                        "--musicplayer.bulk.import-directory=" + importDirectory);
+    }
+
+    void importCatalog(String path) throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        JsonNode job = send(HttpRequest.newBuilder(uri("/songs/import?path=" + encode(path)))
+                .POST(HttpRequest.BodyPublishers.noBody()), 202);
+        String id = job.get("id").asText();
+        while (!job.get("status").asText().equals("COMPLETED")) {
+            if (job.get("status").asText().equals("FAILED")) {
+                throw new IllegalStateException("Catalog import failed: " + job.path("failure").asText());
+            }
+            Thread.sleep(250);
+            job = send(HttpRequest.newBuilder(uri("/songs/import/" + id)).GET(), 200);
+        }
+        System.out.printf("Imported %,d songs in %.1f s (%d rejected)%n", job.get("inserted").asLong(),
+                (System.nanoTime() - started) / 1e9, job.get("failed").asLong());
+    }
+
+    void resolveIds() throws IOException, InterruptedException {
+        JsonNode first = send(HttpRequest.newBuilder(uri("/songs/paginated?size=1&sortBy=id&direction=asc")).GET(), 200);
+        JsonNode last = send(HttpRequest.newBuilder(uri("/songs/paginated?size=1&sortBy=id&direction=desc")).GET(), 200);
+        if (first.get("content").isEmpty()) {
+            throw new IllegalStateException("The catalog is empty; run CatalogGenerator first");
+        }
+        minId = first.get("content").get(0).get("id").asLong();
+        long span = last.get("content").get(0).get("id").asLong() - minId + 1;
+        idDistribution = new ZipfDistribution((int) Math.min(span, Integer.MAX_VALUE - 8), skew);
+        pageDistribution = new ZipfDistribution(BROWSED_PAGES, skew);
+    }
+
+    void run(Duration duration, boolean measureAllocation) throws InterruptedException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Operation, List<LatencyRecorder>> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new ArrayList<>());
+        }
+        AtomicLong driverAllocated = new AtomicLong();
+        List<Thread> workers = new ArrayList<>();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            Map<Operation, LatencyRecorder> own = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                own.put(operation, recorder);
+                recorders.get(operation).add(recorder);
+            }
+            SplittableRandom random = new SplittableRandom(i);
+            workers.add(Thread.ofPlatform().name("loadtest-", i).start(() -> {
+                long allocatedAtStart = threads.getCurrentThreadAllocatedBytes();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = pick(random);
+                    long begin = System.nanoTime();
+                    boolean success = execute(operation, random);
+                    own.get(operation).record(System.nanoTime() - begin, success);
+                }
+                driverAllocated.addAndGet(threads.getCurrentThreadAllocatedBytes() - allocatedAtStart);
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long serverAllocated = threads.getTotalThreadAllocatedBytes() - allocatedBefore - driverAllocated.get();
+        report(recorders, seconds, measureAllocation ? serverAllocated : -1);
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private boolean execute(Operation operation, SplittableRandom random) {
+        HttpRequest.Builder request = switch (operation) {
+            case BY_ID -> HttpRequest.newBuilder(uri("/songs/" + randomId(random))).GET();
+            case PAGE -> HttpRequest.newBuilder(uri("/songs/paginated?count=none&size=" + PAGE_SIZE
+                    + "&page=" + pageDistribution.sample(random))).GET();
+            case SEARCH -> HttpRequest.newBuilder(uri("/songs/search/ranked?limit=" + PAGE_SIZE + "&q="
+                    + CatalogGenerator.WORDS[random.nextInt(CatalogGenerator.WORDS.length)])).GET();
+            case WRITE -> random.nextBoolean()
+                    ? HttpRequest.newBuilder(uri("/songs/" + randomId(random)))
+                            .header("Content-Type", "application/merge-patch+json")
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                    "{\"duration\":" + (120 + random.nextInt(360)) + "}"))
+                    : HttpRequest.newBuilder(uri("/songs"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"title\":\"load " + random.nextInt() + "\",\"artist\":\"Artist "
+                                            + random.nextInt(100) + "\",\"duration\":200,\"releaseYear\":2024}"));
+        };
+        try {
+            int status = client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long randomId(SplittableRandom random) {
+        return minId + idDistribution.sample(random);
+    }
+
+    private void report(Map<Operation, List<LatencyRecorder>> recorders, double seconds, long allocatedBytes) {
+        System.out.printf("%n%-8s %10s %10s %8s %8s %8s %8s %8s %8s%n",
+                "op", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        List<LatencyRecorder> all = new ArrayList<>();
+        for (Map.Entry<Operation, List<LatencyRecorder>> entry : recorders.entrySet()) {
+            all.addAll(entry.getValue());
+            print(entry.getKey().name().toLowerCase(), LatencyRecorder.summarize(entry.getValue()), seconds);
+        }
+        print("total", LatencyRecorder.summarize(all), seconds);
+        if (allocatedBytes >= 0) {
+            System.out.printf("allocation rate: %.1f MB/s (JVM total minus load-driver threads)%n",
+                    allocatedBytes / seconds / (1024 * 1024));
+        } else {
+            System.out.println("allocation rate: n/a (only measured for the embedded server)");
+        }
+    }
+
+    private static void print(String name, LatencyRecorder.Summary summary, double seconds) {
+        System.out.printf("%-8s %,10d %,10.0f %,8d %8.2f %8.2f %8.2f %8.2f %8.2f%n", name, summary.count(),
+                summary.count() / seconds, summary.errors(), summary.percentileMillis(50),
+                summary.percentileMillis(90), summary.percentileMillis(99), summary.percentileMillis(99.9),
+                summary.percentileMillis(100));
+    }
+
+    private JsonNode send(HttpRequest.Builder request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(response.request().uri() + " returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,29 @@
+package com.musicplayer.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be greater than zero");
+        }
+        cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.musicplayer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "musicplayer")
+public class MusicPlayerProperties {
+
+    private final Pagination pagination = new Pagination();
+
+    private final Search search = new Search();
+
+    private final Cache cache = new Cache();
+
+    private final Bulk bulk = new Bulk();
+
+    private final Reactive reactive = new Reactive();
+
+    private final SqlLog sqlLog = new SqlLog();
+
+    private final QueryBudget queryBudget = new QueryBudget();
+
+    @Data
+    public static class Pagination {
+
+        private Duration countCacheTtl = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Search {
+
+        private boolean indexEnabled = true;
+
+        private int suggestMaxResults = 10;
+
+        private boolean emptyAsNotFound = true;
+    }
+
+    @Data
+    public static class Cache {
+
+        private DataSize songMaxSize = DataSize.ofMegabytes(16);
+
+        private Duration songTtl = Duration.ofMinutes(10);
+
+        private long searchMaxEntries = 10_000;
+
+        private Duration searchTtl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Bulk {
+
+        private int batchSize = 500;
+
+        private int writerThreads = 4;
+
+        private int queueCapacity = 8;
+
+        private int concurrentJobs = 2;
+
+        private String importDirectory;
+
+        private int maxReportedErrors = 100;
+
+        private int retainedJobs = 100;
+    }
+
+    @Data
+    public static class Reactive {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maxPoolSize = 10;
+    }
+
+    @Data
+    public static class SqlLog {
+
+        private boolean enabled = false;
+
+        private double sampleRate = 0.01;
+
+        private int queueCapacity = 1024;
+    }
+
+    @Data
+    public static class QueryBudget {
+
+        private boolean enabled = true;
+
+        private int maxStatements = 5;
+
+        private Duration maxLatency = Duration.ofMillis(500);
+
+        private Duration slowStatement = Duration.ofMillis(200);
+
+        private int loggedStatements = 20;
+    }
+}
@@ -0,0 +1,89 @@
+package com.musicplayer.controller;
+
+import com.musicplayer.model.Song;
+import com.musicplayer.service.PageCountMode;
+import com.musicplayer.service.ReactiveSongService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/songs")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSongController {
+
+    private final ReactiveSongService songService;
+
+    public ReactiveSongController(ReactiveSongService songService) {
+        this.songService = songService;
+    }
+
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Song> getAllSongs() {
+        return songService.getAllSongs();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Song> streamAllSongs() {
+        return songService.getAllSongs();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<Song> getSongById(@PathVariable("id") Long id) {
+        return songService.getSongById(id);
+    }
+
+    @GetMapping("/paginated")
+    public Mono<Slice<Song>> getPaginatedSongs(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "exact") String count) {
+
+        return songService.getSongs(page, size, sortBy, direction, PageCountMode.from(count));
+    }
+
+    @GetMapping(value = "/search/artist", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Song> searchByArtist(@RequestParam String artist) {
+        return songService.searchSongsByArtist(artist);
+    }
+
+    @GetMapping(value = "/search/album", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Song> searchByAlbum(@RequestParam String album) {
+        return songService.searchSongsByAlbum(album);
+    }
+
+    @GetMapping(value = "/search/title", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Song> searchByTitle(@RequestParam String title) {
+        return songService.searchSongsByTitle(title);
+    }
+
+    @GetMapping(value = "/search/ranked", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Song> searchRanked(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return songService.searchSongsRanked(q, limit);
+    }
+
+    @GetMapping(value = "/search", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Song> searchSongs(
+            @RequestParam(defaultValue = "") String title,
+            @RequestParam(defaultValue = "") String artist,
+            @RequestParam(defaultValue = "") String album) {
+
+        return songService.searchSongs(title, artist, album);
+    }
+}
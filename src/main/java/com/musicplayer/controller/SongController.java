@@ -1,84 +1,307 @@
 package com.musicplayer.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.musicplayer.dto.BulkDeleteRequest;
+import com.musicplayer.dto.BulkImportResult;
+import com.musicplayer.dto.BulkUpdateRequest;
+import com.musicplayer.dto.BulkWriteResult;
+import com.musicplayer.dto.CursorPage;
+import com.musicplayer.dto.ImportJobStatus;
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import com.musicplayer.dto.Suggestion;
+import com.musicplayer.importer.SongImportJob;
+import com.musicplayer.importer.SongImportPipeline;
+import com.musicplayer.metrics.StatementBudget;
 import com.musicplayer.model.Song;
+import com.musicplayer.service.PageCountMode;
+import com.musicplayer.service.SongBulkService;
+import com.musicplayer.service.SongImportService;
 import com.musicplayer.service.SongService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
 @RestController
 @RequestMapping("/songs")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SongController {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final SongService songService;
+    private final SongImportService songImportService;
+    private final SongImportPipeline songImportPipeline;
+    private final SongBulkService songBulkService;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectReader songReader;
 
-    public SongController(SongService songService) {
+    public SongController(SongService songService, SongImportService songImportService,
+            SongImportPipeline songImportPipeline, SongBulkService songBulkService, ObjectMapper objectMapper) {
         this.songService = songService;
+        this.songImportService = songImportService;
+        this.songImportPipeline = songImportPipeline;
+        this.songBulkService = songBulkService;
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.songReader = objectMapper.readerFor(Song.class);
     }
 
     @GetMapping("/{id}")
-    public Song getSongById(@PathVariable("id") Long id) {
-        return songService.getSongById(id);
+    @StatementBudget(1)
+    public Song getSongById(@PathVariable("id") Long id, WebRequest request) {
+        Song song = songService.getSongById(id);
+        return request.checkNotModified(String.valueOf(song.getVersion())) ? null : song;
     }
 
     @GetMapping("/paginated")
-    public Page<Song> getPaginatedSongs(
+    @StatementBudget(2)
+    public Slice<SongView> getPaginatedSongs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "title") String sortBy,
-            @RequestParam(defaultValue = "asc") String direction) {
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+
+        PageCountMode mode = PageCountMode.from(count);
+        SongFields selected = SongFields.parse(fields);
+        if (notModified(request)) {
+            return null;
+        }
+        return switch (mode) {
+            case EXACT -> songService.getSongs(page, size, sortBy, direction, selected);
+            case NONE -> songService.getSongSlice(page, size, sortBy, direction, selected);
+            case ESTIMATED -> songService.getSongsWithEstimatedTotal(page, size, sortBy, direction, selected);
+        };
+    }
+
+    @GetMapping("/cursor")
+    @StatementBudget(2)
+    public CursorPage<SongView> getSongsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        return songService.getSongs(page, size, sortBy, direction);
+        return songService.getSongsAfter(cursor, size, sortBy, direction, includeTotal);
     }
 
     @GetMapping
-    public List<Song> getAllSongs() {
-        return songService.getAllSongs();
+    @StatementBudget(1)
+    public List<SongView> getAllSongs(@RequestParam(required = false) String fields, WebRequest request) {
+        SongFields selected = SongFields.parse(fields);
+        return notModified(request) ? null : songService.getAllSongs(selected);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @StatementBudget(1)
+    public ResponseEntity<StreamingResponseBody> streamAllSongs() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = ndjsonWriter.createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                songService.streamAllSongs(song -> writeLine(generator, song));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PostMapping
+    @StatementBudget(1)
     @ResponseStatus(HttpStatus.CREATED)
     public Song addSong(@Valid @RequestBody Song song) {
         return songService.saveSong(song);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @StatementBudget(StatementBudget.UNLIMITED)
+    public BulkImportResult importSongs(@RequestBody List<Song> songs) {
+        return songImportService.importSongs(songs.iterator());
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @StatementBudget(StatementBudget.UNLIMITED)
+    public BulkImportResult importSongStream(InputStream body) throws IOException {
+        try (MappingIterator<Song> songs = songReader.readValues(body)) {
+            return songImportService.importSongs(lines(songs));
+        }
+    }
+
+    @DeleteMapping("/bulk")
+    @StatementBudget(StatementBudget.UNLIMITED)
+    public BulkWriteResult deleteSongs(@RequestBody BulkDeleteRequest request) {
+        return songBulkService.deleteSongs(request);
+    }
+
+    @PatchMapping("/bulk")
+    @StatementBudget(StatementBudget.UNLIMITED)
+    public BulkWriteResult updateSongs(@RequestBody BulkUpdateRequest request) {
+        return songBulkService.updateSongs(request);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @StatementBudget(0)
+    public ResponseEntity<ImportJobStatus> importFile(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        return accepted(songImportPipeline.submitUpload(file, format));
+    }
+
+    @PostMapping(value = "/import", params = "path")
+    @StatementBudget(0)
+    public ResponseEntity<ImportJobStatus> importServerFile(
+            @RequestParam String path,
+            @RequestParam(required = false) String format) {
+        return accepted(songImportPipeline.submitPath(path, format));
+    }
+
+    @GetMapping("/import/{id}")
+    @StatementBudget(0)
+    public ImportJobStatus getImportJob(@PathVariable("id") String id) {
+        return songImportPipeline.getJob(id).status();
+    }
+
     @DeleteMapping("/{id}")
+    @StatementBudget(1)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteSong(@PathVariable Long id) {
         songService.deleteSong(id);
     }
 
     @PutMapping("/{id}")
+    @StatementBudget(2)
     public Song updateSong(
             @PathVariable Long id,
             @Valid @RequestBody Song updatedSong) {
         return songService.updateSong(id, updatedSong);
     }
 
+    @PatchMapping(value = "/{id}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    @StatementBudget(2)
+    public Song patchSong(@PathVariable Long id, @RequestBody JsonNode patch) {
+        return songService.patchSong(id, patch);
+    }
+
     @GetMapping("/search/artist")
+    @StatementBudget(1)
     public List<Song> searchByArtist(@RequestParam String artist) {
         return songService.searchSongsByArtist(artist);
     }
 
     @GetMapping("/search/album")
+    @StatementBudget(1)
     public List<Song> searchByAlbum(@RequestParam String album) {
         return songService.searchSongsByAlbum(album);
     }
 
     @GetMapping("/search/title")
+    @StatementBudget(1)
     public List<Song> searchByTitle(@RequestParam String title) {
         return songService.searchSongsByTitle(title);
     }
 
+    @GetMapping("/search/prefix")
+    @StatementBudget(1)
+    public List<Song> searchByPrefix(
+            @RequestParam(defaultValue = "title") String field,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "20") int limit) {
+        return songService.searchSongsByPrefix(field, prefix, limit);
+    }
+
+    @GetMapping("/search/ranked")
+    @StatementBudget(1)
+    public List<Song> searchRanked(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return songService.searchSongsRanked(q, limit);
+    }
+
+    @GetMapping("/suggest")
+    @StatementBudget(0)
+    public List<Suggestion> suggest(
+            @RequestParam(defaultValue = "title") String field,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return songService.suggest(field, prefix, limit);
+    }
+
     @GetMapping("/search")
-    public List<Song> searchSongs(
+    @StatementBudget(1)
+    public List<SongView> searchSongs(
             @RequestParam(defaultValue = "") String title,
             @RequestParam(defaultValue = "") String artist,
-            @RequestParam(defaultValue = "") String album) {
+            @RequestParam(defaultValue = "") String album,
+            @RequestParam(required = false) String fields) {
+        SongFields.parse(fields);
+        return songService.searchSongs(title, artist, album).stream().map(SongView::from).toList();
+    }
+
+    private boolean notModified(WebRequest request) {
+        return request.checkNotModified("catalog-" + songService.catalogVersion());
+    }
+
+    private static ResponseEntity<ImportJobStatus> accepted(SongImportJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/songs/import/" + job.getId()))
+                .body(job.status());
+    }
+
+    private static Iterator<Song> lines(MappingIterator<Song> songs) {
+        return new Iterator<>() {
+
+            private int line;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    return songs.hasNextValue();
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Invalid JSON on line " + (line + 1));
+                }
+            }
+
+            @Override
+            public Song next() {
+                line++;
+                try {
+                    return songs.nextValue();
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Invalid JSON on line " + line);
+                }
+            }
+        };
+    }
 
-        return songService.searchSongs(title, artist, album);
+    private void writeLine(JsonGenerator generator, Song song) {
+        try {
+            ndjsonWriter.writeValue(generator, song);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 }
@@ -0,0 +1,71 @@
+package com.musicplayer.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RestControllerAdvice(assignableTypes = SongController.class)
+public class SongFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final String FIELDS = "fields";
+
+    private static final SimpleFilterProvider ALL_FIELDS = filters(SimpleBeanPropertyFilter.serializeAll());
+
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+
+    private final Map<Method, Boolean> acceptsFields = new ConcurrentHashMap<>();
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        Method method = returnType.getMethod();
+        if (method == null || !acceptsFields.computeIfAbsent(method, this::declaresFields)) {
+            bodyContainer.setFilters(ALL_FIELDS);
+            return;
+        }
+        SongFields fields = SongFields.parse(parameter(request));
+        bodyContainer.setFilters(fields.isAll()
+                ? ALL_FIELDS
+                : filters(SimpleBeanPropertyFilter.filterOutAllExcept(fields.names())));
+    }
+
+    private boolean declaresFields(Method method) {
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            MethodParameter parameter = new MethodParameter(method, i);
+            parameter.initParameterNameDiscovery(parameterNames);
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam != null && FIELDS.equals(requestParam.name().isEmpty()
+                    ? parameter.getParameterName()
+                    : requestParam.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String parameter(ServerHttpRequest request) {
+        return request instanceof ServletServerHttpRequest servletRequest
+                ? servletRequest.getServletRequest().getParameter(FIELDS)
+                : null;
+    }
+
+    private static SimpleFilterProvider filters(SimpleBeanPropertyFilter filter) {
+        return new SimpleFilterProvider().addFilter(SongView.FILTER, filter);
+    }
+}
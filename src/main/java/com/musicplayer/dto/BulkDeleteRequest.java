@@ -0,0 +1,6 @@
+package com.musicplayer.dto;
+
+import java.util.List;
+
+public record BulkDeleteRequest(List<Long> ids, SongFilter filter) {
+}
@@ -0,0 +1,13 @@
+package com.musicplayer.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record BulkImportResult(
+        int received,
+        int inserted,
+        List<RowError> errors) {
+
+    public record RowError(long row, Map<String, String> errors) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.musicplayer.dto;
+
+import java.util.List;
+
+public record BulkUpdateRequest(List<Long> ids, SongFilter filter, SongChanges set) {
+}
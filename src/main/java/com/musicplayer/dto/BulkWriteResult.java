@@ -0,0 +1,4 @@
+package com.musicplayer.dto;
+
+public record BulkWriteResult(int affected) {
+}
@@ -0,0 +1,13 @@
+package com.musicplayer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements) {
+}
@@ -0,0 +1,15 @@
+package com.musicplayer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record ErrorResponse(
+        LocalDateTime timestamp,
+        int status,
+        String error,
+        String message,
+        String path,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> errors) {
+}
@@ -0,0 +1,23 @@
+package com.musicplayer.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportJobStatus(
+        String id,
+        String source,
+        String status,
+        long bytesRead,
+        long totalBytes,
+        long rowsRead,
+        long inserted,
+        long failed,
+        double rowsPerSecond,
+        Instant startedAt,
+        Instant finishedAt,
+        String failure,
+        List<BulkImportResult.RowError> errors) {
+}
@@ -0,0 +1,4 @@
+package com.musicplayer.dto;
+
+public record SongChanges(String title, String artist, String album, Integer duration, Integer releaseYear) {
+}
@@ -0,0 +1,47 @@
+package com.musicplayer.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public record SongFields(Set<String> names) {
+
+    private static final List<String> SELECTABLE =
+            List.of("id", "title", "artist", "album", "duration", "releaseYear", "version");
+
+    public static final SongFields ALL = new SongFields(Collections.unmodifiableSet(new LinkedHashSet<>(SELECTABLE)));
+
+    public static SongFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!SELECTABLE.contains(name)) {
+                throw new IllegalArgumentException("Fields must be any of: " + String.join(", ", SELECTABLE));
+            }
+            requested.add(name);
+        }
+        if (requested.size() == SELECTABLE.size()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : SELECTABLE) {
+            if (requested.contains(name)) {
+                names.add(name);
+            }
+        }
+        return new SongFields(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names.size() == SELECTABLE.size();
+    }
+
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+}
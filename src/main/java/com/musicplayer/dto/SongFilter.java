@@ -0,0 +1,12 @@
+package com.musicplayer.dto;
+
+public record SongFilter(String title, String artist, String album) {
+
+    public boolean isEmpty() {
+        return isBlank(title) && isBlank(artist) && isBlank(album);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,30 @@
+package com.musicplayer.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.musicplayer.model.Song;
+
+import java.time.Year;
+
+@JsonFilter(SongView.FILTER)
+public record SongView(
+        Long id,
+        String title,
+        String artist,
+        String album,
+        int duration,
+        int releaseYear,
+        Long version) {
+
+    public static final String FILTER = "songFields";
+
+    public static SongView from(Song song) {
+        return new SongView(song.getId(), song.getTitle(), song.getArtist(), song.getAlbum(), song.getDuration(),
+                song.getReleaseYear(), song.getVersion());
+    }
+
+    @JsonProperty("releaseYearValid")
+    public boolean isReleaseYearValid() {
+        return releaseYear <= Year.now().getValue();
+    }
+}
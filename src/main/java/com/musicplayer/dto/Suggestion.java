@@ -0,0 +1,4 @@
+package com.musicplayer.dto;
+
+public record Suggestion(String value, int count) {
+}
@@ -0,0 +1,4 @@
+package com.musicplayer.event;
+
+public record SongDeletedEvent(Long id) {
+}
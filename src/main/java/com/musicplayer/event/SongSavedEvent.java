@@ -0,0 +1,6 @@
+package com.musicplayer.event;
+
+import com.musicplayer.model.Song;
+
+public record SongSavedEvent(Song song) {
+}
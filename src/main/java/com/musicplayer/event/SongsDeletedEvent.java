@@ -0,0 +1,6 @@
+package com.musicplayer.event;
+
+import java.util.List;
+
+public record SongsDeletedEvent(List<Long> ids) {
+}
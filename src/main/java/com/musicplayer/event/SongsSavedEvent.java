@@ -0,0 +1,8 @@
+package com.musicplayer.event;
+
+import com.musicplayer.model.Song;
+
+import java.util.List;
+
+public record SongsSavedEvent(List<Song> songs) {
+}
@@ -0,0 +1,8 @@
+package com.musicplayer.event;
+
+import com.musicplayer.dto.SongChanges;
+
+import java.util.List;
+
+public record SongsUpdatedEvent(List<Long> ids, SongChanges changes) {
+}
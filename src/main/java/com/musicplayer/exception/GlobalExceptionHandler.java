@@ -1,5 +1,10 @@
 package com.musicplayer.exception;
 
+import com.musicplayer.dto.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -8,18 +13,25 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, Object>> handleValidationErrors(
+    public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex,
             HttpServletRequest request) {
 
@@ -35,16 +47,58 @@ public class GlobalExceptionHandler {
                 request.getRequestURI(), errors);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolations(
+            ConstraintViolationException ex,
+            HttpServletRequest request) {
+
+        Map<String, String> errors = ex.getConstraintViolations()
+                .stream()
+                .collect(Collectors.toMap(
+                        violation -> violation.getPropertyPath().toString(),
+                        violation -> violation.getMessage(),
+                        (msg1, msg2) -> msg1));
+
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Validation Failed", "Input validation failed",
+                request.getRequestURI(), errors);
+    }
+
     @ExceptionHandler(SongNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleSongNotFound(
+    public ResponseEntity<ErrorResponse> handleSongNotFound(
             SongNotFoundException ex,
             HttpServletRequest request) {
 
         return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request.getRequestURI(), null);
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotFound(
+            ImportJobNotFoundException ex,
+            HttpServletRequest request) {
+
+        return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request.getRequestURI(), null);
+    }
+
+    @ExceptionHandler(SearchIndexUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSearchIndexUnavailable(
+            SearchIndexUnavailableException ex,
+            HttpServletRequest request) {
+
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage(),
+                request.getRequestURI(), null);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        return buildErrorResponse(HttpStatus.CONFLICT, "Conflict",
+                "The song was modified by another request; reload it and try again", request.getRequestURI(), null);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<Map<String, Object>> handleIllegalArgument(
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(
             IllegalArgumentException ex,
             HttpServletRequest request) {
 
@@ -53,7 +107,7 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    public ResponseEntity<Map<String, Object>> handleTypeMismatch(
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(
             MethodArgumentTypeMismatchException ex,
             HttpServletRequest request) {
 
@@ -62,7 +116,7 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    public ResponseEntity<Map<String, Object>> handleMethodNotAllowed(
+    public ResponseEntity<ErrorResponse> handleMethodNotAllowed(
             HttpRequestMethodNotSupportedException ex,
             HttpServletRequest request) {
 
@@ -70,8 +124,17 @@ public class GlobalExceptionHandler {
                 request.getRequestURI(), null);
     }
 
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedMediaType(
+            HttpMediaTypeNotSupportedException ex,
+            HttpServletRequest request) {
+
+        return buildErrorResponse(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported Media Type", ex.getMessage(),
+                request.getRequestURI(), null);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<Map<String, Object>> handleMalformedJson(
+    public ResponseEntity<ErrorResponse> handleMalformedJson(
             HttpMessageNotReadableException ex,
             HttpServletRequest request) {
 
@@ -80,7 +143,7 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGlobalException(
+    public ResponseEntity<ErrorResponse> handleGlobalException(
             Exception ex,
             HttpServletRequest request) {
 
@@ -89,23 +152,17 @@ public class GlobalExceptionHandler {
                 "An unexpected error occurred", request.getRequestURI(), null);
     }
 
-    private ResponseEntity<Map<String, Object>> buildErrorResponse(
+    private ResponseEntity<ErrorResponse> buildErrorResponse(
             HttpStatus status,
             String error,
             String message,
             String path,
             Map<String, String> validationErrors) {
 
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", status.value());
-        body.put("error", error);
-        body.put("message", message);
-        body.put("path", path);
-
-        if (validationErrors != null && !validationErrors.isEmpty()) {
-            body.put("errors", validationErrors);
-        }
+        meterRegistry.counter("musicplayer.errors", "status", String.valueOf(status.value()), "error", error)
+                .increment();
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), status.value(), error, message, path,
+                validationErrors);
 
         return new ResponseEntity<>(body, status);
     }
@@ -0,0 +1,81 @@
+package com.musicplayer.exception;
+
+import com.musicplayer.dto.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(SongNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleSongNotFound(
+            SongNotFoundException ex,
+            ServerHttpRequest request) {
+
+        return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(SearchIndexUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSearchIndexUnavailable(
+            SearchIndexUnavailableException ex,
+            ServerHttpRequest request) {
+
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(
+            IllegalArgumentException ex,
+            ServerHttpRequest request) {
+
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidInput(
+            ServerWebInputException ex,
+            ServerHttpRequest request) {
+
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", ex.getReason(), request);
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(
+            ResponseStatusException ex,
+            ServerHttpRequest request) {
+
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        return buildErrorResponse(status, status.getReasonPhrase(), ex.getReason(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(
+            Exception ex,
+            ServerHttpRequest request) {
+
+        ex.printStackTrace();
+        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred", request);
+    }
+
+    private ResponseEntity<ErrorResponse> buildErrorResponse(
+            HttpStatus status,
+            String error,
+            String message,
+            ServerHttpRequest request) {
+
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), status.value(), error, message,
+                request.getPath().value(), null);
+
+        return new ResponseEntity<>(body, status);
+    }
+}
@@ -4,4 +4,12 @@ public class SongNotFoundException extends RuntimeException {
     public SongNotFoundException(String message) {
         super(message);
     }
+
+    private SongNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    public static SongNotFoundException withoutStackTrace(String message) {
+        return new SongNotFoundException(message, false);
+    }
 }
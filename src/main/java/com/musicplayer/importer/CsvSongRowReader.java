@@ -0,0 +1,98 @@
+package com.musicplayer.importer;
+
+import com.musicplayer.model.Song;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class CsvSongRowReader implements SongRowReader {
+
+    private static final String NULL_VALUE = "\\N";
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "artist", "duration", "releaseyear");
+
+    private final CsvRecordReader records;
+    private Map<String, Integer> columns;
+
+    CsvSongRowReader(InputStream in) {
+        this.records = new CsvRecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public SongRow next() throws IOException {
+        if (columns == null) {
+            columns = readHeader();
+        }
+        List<String> fields;
+        do {
+            fields = records.read();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        Song song = new Song();
+        song.setTitle(text(fields, "title"));
+        song.setArtist(text(fields, "artist"));
+        song.setAlbum(text(fields, "album"));
+        song.setDuration(number(fields, "duration", "Duration must be a number", errors));
+        song.setReleaseYear(number(fields, "releaseyear", "Release year must be a number", errors));
+        return new SongRow(song, errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+
+    private Map<String, Integer> readHeader() throws IOException {
+        List<String> header = records.read();
+        Map<String, Integer> indexes = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                indexes.putIfAbsent(columnName(header.get(i)), i);
+            }
+        }
+        if (!indexes.keySet().containsAll(REQUIRED_COLUMNS)) {
+            throw new IllegalArgumentException("CSV header must include title, artist, duration and release_year");
+        }
+        return indexes;
+    }
+
+    private String text(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() || value.equals(NULL_VALUE) ? null : value;
+    }
+
+    private int number(List<String> fields, String column, String message, Map<String, String> errors) {
+        String value = text(fields, column);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            errors.put(column.equals("releaseyear") ? "releaseYear" : column, message);
+            return 0;
+        }
+    }
+
+    private static String columnName(String header) {
+        return header.replace("\uFEFF", "")
+                .replace("_", "")
+                .replace(" ", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,49 @@
+package com.musicplayer.importer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+public enum ImportFormat {
+
+    CSV(".csv"),
+    NDJSON(".ndjson");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ImportFormat resolve(String format, String fileName) {
+        if (format != null && !format.isBlank()) {
+            for (ImportFormat candidate : values()) {
+                if (candidate.name().equalsIgnoreCase(format.trim())) {
+                    return candidate;
+                }
+            }
+        } else if (fileName != null) {
+            String name = fileName.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+        }
+        throw new IllegalArgumentException("Format must be one of: csv, ndjson");
+    }
+
+    SongRowReader open(InputStream in, ObjectReader songReader) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvSongRowReader(in);
+            case NDJSON -> new NdjsonSongRowReader(in, songReader);
+        };
+    }
+}
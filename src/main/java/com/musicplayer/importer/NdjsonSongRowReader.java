@@ -0,0 +1,39 @@
+package com.musicplayer.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.musicplayer.model.Song;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+final class NdjsonSongRowReader implements SongRowReader {
+
+    private final MappingIterator<Song> songs;
+    private long line;
+
+    NdjsonSongRowReader(InputStream in, ObjectReader songReader) throws IOException {
+        this.songs = songReader.readValues(in);
+    }
+
+    @Override
+    public SongRow next() throws IOException {
+        try {
+            if (!songs.hasNextValue()) {
+                return null;
+            }
+            Song song = songs.nextValue();
+            line++;
+            return new SongRow(song, Map.of());
+        } catch (JsonProcessingException ex) {
+            throw new IOException("Invalid JSON on line " + (line + 1), ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        songs.close();
+    }
+}
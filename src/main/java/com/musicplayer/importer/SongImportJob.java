@@ -0,0 +1,112 @@
+package com.musicplayer.importer;
+
+import com.musicplayer.dto.BulkImportResult;
+import com.musicplayer.dto.ImportJobStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SongImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final String source;
+    private final long totalBytes;
+    private final int maxReportedErrors;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<BulkImportResult.RowError> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String failure;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long startNanos;
+    private volatile long finishNanos;
+
+    SongImportJob(String id, String source, long totalBytes, int maxReportedErrors) {
+        this.id = id;
+        this.source = source;
+        this.totalBytes = totalBytes;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public ImportJobStatus status() {
+        long end = finishedAt != null ? finishNanos : System.nanoTime();
+        double seconds = startedAt != null ? (end - startNanos) / 1e9 : 0;
+        List<BulkImportResult.RowError> reported;
+        synchronized (errors) {
+            reported = List.copyOf(errors);
+        }
+        return new ImportJobStatus(id, source, status.name(), bytesRead.get(), totalBytes, rowsRead.get(),
+                inserted.get(), failed.get(), seconds > 0 ? rowsRead.get() / seconds : 0, startedAt, finishedAt,
+                failure, reported);
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void finish() {
+        finishNanos = System.nanoTime();
+        finishedAt = Instant.now();
+        status = failure == null ? Status.COMPLETED : Status.FAILED;
+    }
+
+    void fail(String message) {
+        if (failure == null) {
+            failure = message;
+        }
+    }
+
+    boolean hasFailed() {
+        return failure != null;
+    }
+
+    void addBytesRead(long count) {
+        bytesRead.addAndGet(count);
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void addInserted(int count) {
+        inserted.addAndGet(count);
+    }
+
+    void reject(BulkImportResult.RowError error) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.musicplayer.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.BulkImportResult;
+import com.musicplayer.dto.ImportJobStatus;
+import com.musicplayer.exception.ImportJobNotFoundException;
+import com.musicplayer.model.Song;
+import com.musicplayer.service.SongImportService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+@Component
+public class SongImportPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(SongImportPipeline.class);
+
+    private record Batch(List<Song> songs, List<Long> rows) {
+
+        private static final Batch END = new Batch(List.of(), List.of());
+    }
+
+    private final SongImportService songImportService;
+    private final ObjectReader songReader;
+    private final MusicPlayerProperties properties;
+    private final ExecutorService jobExecutor;
+    private final ThreadFactory writerThreadFactory;
+    private final Map<String, SongImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SongImportPipeline(SongImportService songImportService, ObjectMapper objectMapper,
+            MusicPlayerProperties properties, Environment environment) {
+        this(songImportService, objectMapper, properties, Threading.VIRTUAL.isActive(environment));
+    }
+
+    SongImportPipeline(SongImportService songImportService, ObjectMapper objectMapper,
+            MusicPlayerProperties properties, boolean virtualThreads) {
+        this.songImportService = songImportService;
+        this.songReader = objectMapper.readerFor(Song.class);
+        this.properties = properties;
+        this.jobExecutor = Executors.newFixedThreadPool(properties.getBulk().getConcurrentJobs(),
+                threadFactory("song-import-", virtualThreads));
+        this.writerThreadFactory = threadFactory("song-import-writer-", virtualThreads);
+    }
+
+    public SongImportJob submitUpload(MultipartFile file, String format) throws IOException {
+        ImportFormat importFormat = ImportFormat.resolve(format, file.getOriginalFilename());
+        Path copy = Files.createTempFile("song-import-", importFormat.extension());
+        file.transferTo(copy);
+        return submit(copy, importFormat, file.getOriginalFilename(), true);
+    }
+
+    public SongImportJob submitPath(String path, String format) {
+        String directory = properties.getBulk().getImportDirectory();
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalArgumentException("Server-side imports are disabled");
+        }
+        Path root = Path.of(directory).toAbsolutePath().normalize();
+        Path file = root.resolve(path).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Import file not found: " + path);
+        }
+        return submit(file, ImportFormat.resolve(format, file.getFileName().toString()), path, false);
+    }
+
+    public SongImportJob getJob(String id) {
+        SongImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job " + id + " not found");
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private SongImportJob submit(Path file, ImportFormat format, String source, boolean deleteWhenDone) {
+        pruneFinishedJobs();
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Import file cannot be read: " + source);
+        }
+        SongImportJob job = new SongImportJob(UUID.randomUUID().toString(), source, size,
+                properties.getBulk().getMaxReportedErrors());
+        jobs.put(job.getId(), job);
+        jobExecutor.execute(() -> run(job, file, format, deleteWhenDone));
+        return job;
+    }
+
+    private void run(SongImportJob job, Path file, ImportFormat format, boolean deleteWhenDone) {
+        MusicPlayerProperties.Bulk config = properties.getBulk();
+        job.start();
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        ExecutorService writers = Executors.newFixedThreadPool(config.getWriterThreads(), writerThreadFactory);
+        for (int i = 0; i < config.getWriterThreads(); i++) {
+            writers.execute(() -> write(job, queue));
+        }
+        try (InputStream in = new CountingInputStream(Files.newInputStream(file), job::addBytesRead);
+                SongRowReader rows = format.open(in, songReader)) {
+            read(job, rows, queue, config.getBatchSize());
+        } catch (IOException | RuntimeException ex) {
+            job.fail(message(ex));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            job.fail("Import was interrupted");
+        } finally {
+            for (int i = 0; i < config.getWriterThreads(); i++) {
+                putUninterruptibly(queue, Batch.END);
+            }
+            writers.shutdown();
+            awaitUninterruptibly(writers);
+            job.finish();
+            if (deleteWhenDone) {
+                deleteQuietly(file);
+            }
+            ImportJobStatus status = job.status();
+            log.info("Import {} of {} finished as {}: {} rows, {} inserted, {} failed, {} rows/s", status.id(),
+                    status.source(), status.status(), status.rowsRead(), status.inserted(), status.failed(),
+                    Math.round(status.rowsPerSecond()));
+        }
+    }
+
+    private void read(SongImportJob job, SongRowReader rows, BlockingQueue<Batch> queue, int batchSize)
+            throws IOException, InterruptedException {
+        List<Song> songs = new ArrayList<>(batchSize);
+        List<Long> indexes = new ArrayList<>(batchSize);
+        long row = 0;
+        SongRow next;
+        while (!job.hasFailed() && (next = rows.next()) != null) {
+            long index = row++;
+            job.rowRead();
+            Map<String, String> errors = next.errors().isEmpty()
+                    ? songImportService.validate(next.song())
+                    : next.errors();
+            if (!errors.isEmpty()) {
+                job.reject(new BulkImportResult.RowError(index, errors));
+                continue;
+            }
+            songs.add(next.song());
+            indexes.add(index);
+            if (songs.size() == batchSize) {
+                queue.put(new Batch(songs, indexes));
+                songs = new ArrayList<>(batchSize);
+                indexes = new ArrayList<>(batchSize);
+            }
+        }
+        if (!songs.isEmpty()) {
+            queue.put(new Batch(songs, indexes));
+        }
+    }
+
+    private void write(SongImportJob job, BlockingQueue<Batch> queue) {
+        while (true) {
+            Batch batch;
+            try {
+                batch = queue.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                job.fail("Import was interrupted");
+                return;
+            }
+            if (batch == Batch.END) {
+                return;
+            }
+            if (job.hasFailed()) {
+                continue;
+            }
+            try {
+                job.addInserted(songImportService.insertBatch(batch.songs(), batch.rows(), job::reject));
+            } catch (RuntimeException ex) {
+                job.fail(message(ex));
+            }
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        int retained = properties.getBulk().getRetainedJobs();
+        List<SongImportJob> finished = jobs.values().stream()
+                .filter(SongImportJob::isFinished)
+                .sorted(Comparator.comparing(SongImportJob::getFinishedAt))
+                .toList();
+        for (int i = 0; i < finished.size() - retained; i++) {
+            jobs.remove(finished.get(i).getId());
+        }
+    }
+
+    private static String message(Exception ex) {
+        return ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+    }
+
+    private static void putUninterruptibly(BlockingQueue<Batch> queue, Batch batch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(batch);
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix, boolean virtual) {
+        Thread.Builder builder = virtual ? Thread.ofVirtual() : Thread.ofPlatform();
+        return builder.name(prefix, 1).factory();
+    }
+
+    private static void awaitUninterruptibly(ExecutorService executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete import file {}", file, ex);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final LongConsumer counter;
+
+        private CountingInputStream(InputStream in, LongConsumer counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counter.accept(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                counter.accept(count);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.musicplayer.importer;
+
+import com.musicplayer.model.Song;
+
+import java.util.Map;
+
+record SongRow(Song song, Map<String, String> errors) {
+}
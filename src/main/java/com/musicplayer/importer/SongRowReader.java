@@ -0,0 +1,9 @@
+package com.musicplayer.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+interface SongRowReader extends Closeable {
+
+    SongRow next() throws IOException;
+}
@@ -0,0 +1,104 @@
+package com.musicplayer.metrics;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "musicplayer.query-budget", name = "enabled", matchIfMissing = true)
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor, WebMvcConfigurer {
+
+    public static final String STATS_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".stats";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetInterceptor.class);
+    private static final String STARTED_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".started";
+
+    private final MusicPlayerProperties.QueryBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetInterceptor(MusicPlayerProperties properties, MeterRegistry meterRegistry) {
+        this.budget = properties.getQueryBudget();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this).addPathPatterns("/songs", "/songs/**");
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        request.setAttribute(STARTED_ATTRIBUTE, System.nanoTime());
+        request.setAttribute(STATS_ATTRIBUTE, QueryStats.start(budget.getLoggedStatements()));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        QueryStats.finish();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        QueryStats.finish();
+        QueryStats stats = (QueryStats) request.getAttribute(STATS_ATTRIBUTE);
+        Long started = (Long) request.getAttribute(STARTED_ATTRIBUTE);
+        if (stats == null || started == null) {
+            return;
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        String uri = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        DistributionSummary.builder("musicplayer.request.statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.count());
+
+        int maxStatements = maxStatements(handler);
+        boolean overStatements = stats.count() > maxStatements;
+        boolean overLatency = elapsedMillis > budget.getMaxLatency().toMillis();
+        if (overStatements) {
+            meterRegistry.counter("musicplayer.request.budget.exceeded", "uri", uri, "budget", "statements").increment();
+        }
+        if (overLatency) {
+            meterRegistry.counter("musicplayer.request.budget.exceeded", "uri", uri, "budget", "latency").increment();
+        }
+        if (overStatements || overLatency) {
+            log.warn("{} {} issued {} statements ({} ms in JDBC) and took {} ms; budget is {} statements and {} ms:{}",
+                    request.getMethod(), request.getRequestURI(), stats.count(), stats.elapsed().toMillis(),
+                    elapsedMillis, maxStatements, budget.getMaxLatency().toMillis(),
+                    stats.statements().stream().map(sql -> "\n    " + sql).collect(Collectors.joining()));
+        }
+    }
+
+    private int maxStatements(Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            StatementBudget statementBudget = method.getMethodAnnotation(StatementBudget.class);
+            if (statementBudget != null) {
+                return statementBudget.value();
+            }
+        }
+        return budget.getMaxStatements();
+    }
+}
@@ -0,0 +1,70 @@
+package com.musicplayer.metrics;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(prefix = "musicplayer.query-budget", name = "enabled", matchIfMissing = true)
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor, QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountingDataSourcePostProcessor.class);
+
+    private final ObjectProvider<MusicPlayerProperties> properties;
+
+    private volatile long slowStatementMillis = -1;
+
+    public QueryCountingDataSourcePostProcessor(ObjectProvider<MusicPlayerProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(this)
+                    .build();
+        }
+        return bean;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (execInfo.isBatch()) {
+            sql = sql + " [batch of " + execInfo.getBatchSize() + "]";
+        }
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.record(sql, execInfo.getElapsedTime());
+        }
+        if (execInfo.getElapsedTime() >= slowStatementMillis()) {
+            log.warn("Slow statement took {} ms: {}", execInfo.getElapsedTime(), sql);
+        }
+    }
+
+    private long slowStatementMillis() {
+        if (slowStatementMillis < 0) {
+            slowStatementMillis = properties.getObject().getQueryBudget().getSlowStatement().toMillis();
+        }
+        return slowStatementMillis;
+    }
+}
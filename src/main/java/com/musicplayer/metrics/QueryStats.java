@@ -0,0 +1,54 @@
+package com.musicplayer.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final int maxRetained;
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+    private long elapsedMillis;
+
+    QueryStats(int maxRetained) {
+        this.maxRetained = maxRetained;
+    }
+
+    static QueryStats start(int maxRetained) {
+        QueryStats stats = new QueryStats(maxRetained);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, long elapsedMillis) {
+        count++;
+        this.elapsedMillis += elapsedMillis;
+        if (statements.size() < maxRetained) {
+            statements.add(sql);
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public Duration elapsed() {
+        return Duration.ofMillis(elapsedMillis);
+    }
+
+    public List<String> statements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
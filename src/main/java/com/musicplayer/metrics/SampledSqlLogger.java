@@ -0,0 +1,61 @@
+package com.musicplayer.metrics;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "musicplayer.sql-log", name = "enabled", havingValue = "true")
+public class SampledSqlLogger implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final Logger log = LoggerFactory.getLogger("com.musicplayer.sql");
+
+    private final double sampleRate;
+    private final Counter sampled;
+    private final Counter dropped;
+    private final ThreadPoolExecutor writer;
+
+    public SampledSqlLogger(MusicPlayerProperties properties, MeterRegistry registry) {
+        MusicPlayerProperties.SqlLog config = properties.getSqlLog();
+        this.sampleRate = config.getSampleRate();
+        this.sampled = registry.counter("musicplayer.sql.log", "result", "sampled");
+        this.dropped = registry.counter("musicplayer.sql.log", "result", "dropped");
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                Thread.ofPlatform().name("sql-log").daemon().factory(),
+                (task, executor) -> dropped.increment());
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            sampled.increment();
+            writer.execute(() -> log.info(sql));
+        }
+        return sql;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,94 @@
+package com.musicplayer.metrics;
+
+import com.musicplayer.dto.CursorPage;
+import com.musicplayer.model.Song;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+@Aspect
+@Component
+public class SongMetricsAspect {
+
+    static final String SERVICE_TIMER = "musicplayer.service";
+    static final String REPOSITORY_TIMER = "musicplayer.repository";
+    static final String ROWS = "musicplayer.rows";
+
+    private final MeterRegistry registry;
+
+    public SongMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.musicplayer.service.SongService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(SERVICE_TIMER, "service", joinPoint);
+    }
+
+    @Around("target(com.musicplayer.repository.SongRepository)"
+            + " || execution(public * com.musicplayer.repository.SongBatchRepository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(REPOSITORY_TIMER, "repository", joinPoint);
+    }
+
+    private Object record(String timer, String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            Object result = joinPoint.proceed();
+            long rows = rows(result);
+            if (rows >= 0) {
+                DistributionSummary.builder(ROWS)
+                        .tag("layer", layer)
+                        .tag("method", method)
+                        .register(registry)
+                        .record(rows);
+            }
+            return result;
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(timer)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Window<?> window) {
+            return window.size();
+        }
+        if (result instanceof CursorPage<?> page) {
+            return page.content().size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Song) {
+            return 1;
+        }
+        return -1;
+    }
+}
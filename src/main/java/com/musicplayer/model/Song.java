@@ -1,10 +1,14 @@
 package com.musicplayer.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -12,7 +16,7 @@ import jakarta.validation.constraints.Positive;
 
 @Data
 @Entity
-
+@DynamicUpdate
 public class Song {
 
   @Id
@@ -34,6 +38,19 @@ public class Song {
   @Min(value = 1877, message = "Release year cannot be before 1877")
   private int releaseYear;
 
+  @JsonIgnore
+  private String titleNormalized;
+
+  @JsonIgnore
+  private String artistNormalized;
+
+  @JsonIgnore
+  private String albumNormalized;
+
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
   @AssertTrue(message = "Release year cannot be in the future")
   public boolean isReleaseYearValid() {
     return releaseYear <= java.time.Year.now().getValue();
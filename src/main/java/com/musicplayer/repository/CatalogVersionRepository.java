@@ -0,0 +1,27 @@
+package com.musicplayer.repository;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Repository
+public class CatalogVersionRepository {
+
+    private static final String INCREMENT_SQL = "update catalog_version set version = version + 1 where id = 1";
+
+    private static final String SELECT_SQL = "select version from catalog_version where id = 1";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CatalogVersionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    public long nextEpoch() {
+        jdbcTemplate.update(INCREMENT_SQL, Map.of());
+        return jdbcTemplate.queryForObject(SELECT_SQL, Map.of(), Long.class);
+    }
+}
@@ -0,0 +1,161 @@
+package com.musicplayer.repository;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.model.Song;
+import com.musicplayer.search.TextNormalizer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSongRepository {
+
+    private static final String SELECT_SQL = "select id, title, artist, album, duration, release_year, version from song";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "artist", "artist",
+            "album", "album",
+            "duration", "duration",
+            "releaseYear", "release_year");
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveSongRepository(MusicPlayerProperties properties) {
+        MusicPlayerProperties.Reactive config = properties.getReactive();
+        if (config.getUrl() == null || config.getUrl().isBlank()) {
+            throw new IllegalStateException("musicplayer.reactive.url must be set to use the reactive API");
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(config.getUrl()).mutate();
+        if (config.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, config.getUsername());
+        }
+        if (config.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, config.getPassword());
+        }
+        this.connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                        .maxSize(config.getMaxPoolSize())
+                        .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    public Flux<Song> findAll() {
+        return databaseClient.sql(SELECT_SQL + " order by id")
+                .map(ReactiveSongRepository::toSong)
+                .all();
+    }
+
+    public Mono<Song> findById(Long id) {
+        return databaseClient.sql(SELECT_SQL + " where id = :id")
+                .bind("id", id)
+                .map(ReactiveSongRepository::toSong)
+                .one();
+    }
+
+    public Flux<Song> findAllById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(SELECT_SQL + " where id in (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveSongRepository::toSong)
+                .all();
+    }
+
+    public Flux<Song> findPage(Pageable pageable, int limit) {
+        return Flux.defer(() -> databaseClient.sql(SELECT_SQL + " order by " + orderBy(pageable.getSort())
+                        + " limit :limit offset :offset")
+                .bind("limit", limit)
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveSongRepository::toSong)
+                .all());
+    }
+
+    public Mono<Long> count() {
+        return databaseClient.sql("select count(*) from song")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Flux<Song> findContaining(String title, String artist, String album) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(" where 1 = 1");
+        appendContains(sql, "title", title);
+        appendContains(sql, "artist", artist);
+        appendContains(sql, "album", album);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.append(" order by id").toString());
+        spec = bindContains(spec, "title", title);
+        spec = bindContains(spec, "artist", artist);
+        spec = bindContains(spec, "album", album);
+        return spec.map(ReactiveSongRepository::toSong).all();
+    }
+
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ");
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Sorting is not supported for sortBy: " + order.getProperty());
+            }
+            orderBy.add(column + " " + order.getDirection().name());
+            hasId |= "id".equals(column);
+        }
+        if (!hasId) {
+            orderBy.add("id");
+        }
+        return orderBy.toString();
+    }
+
+    private static void appendContains(StringBuilder sql, String column, String value) {
+        if (value != null) {
+            sql.append(" and ").append(column).append("_normalized like :").append(column).append(" escape '!'");
+        }
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindContains(DatabaseClient.GenericExecuteSpec spec,
+            String column, String value) {
+        if (value == null) {
+            return spec;
+        }
+        String escaped = TextNormalizer.normalize(value)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return spec.bind(column, "%" + escaped + "%");
+    }
+
+    private static Song toSong(Readable row) {
+        Song song = new Song();
+        song.setId(row.get("id", Long.class));
+        song.setTitle(row.get("title", String.class));
+        song.setArtist(row.get("artist", String.class));
+        song.setAlbum(row.get("album", String.class));
+        song.setDuration(row.get("duration", Integer.class));
+        song.setReleaseYear(row.get("release_year", Integer.class));
+        song.setVersion(row.get("version", Long.class));
+        return song;
+    }
+}
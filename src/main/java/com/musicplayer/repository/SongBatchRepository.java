@@ -0,0 +1,114 @@
+package com.musicplayer.repository;
+
+import com.musicplayer.model.Song;
+import com.musicplayer.search.TextNormalizer;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Repository
+public class SongBatchRepository {
+
+    private static final String INSERT_SQL = "insert into song (title, artist, album, title_normalized, "
+            + "artist_normalized, album_normalized, duration, release_year, version) values (:title, :artist, :album, "
+            + ":titleNormalized, :artistNormalized, :albumNormalized, :duration, :releaseYear, 0)";
+
+    private static final String[] KEY_COLUMNS = { "id" };
+
+    private static final int ID_BATCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SongBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<Song> songs) {
+        SqlParameterSource[] parameters = songs.stream()
+                .map(SongBatchRepository::insertParameters)
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, parameters, keyHolder, KEY_COLUMNS);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < songs.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            songs.get(i).setId(id.longValue());
+            songs.get(i).setVersion(0L);
+        }
+    }
+
+    public List<Long> findIdsMatching(String title, String artist, String album) {
+        StringBuilder sql = new StringBuilder("select id from song where 1 = 1");
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        appendContains(sql, parameters, "title", title);
+        appendContains(sql, parameters, "artist", artist);
+        appendContains(sql, parameters, "album", album);
+        return jdbcTemplate.queryForList(sql.append(" order by id").toString(), parameters, Long.class);
+    }
+
+    public int deleteAllById(List<Long> ids) {
+        int deleted = 0;
+        for (List<Long> batch : batches(ids)) {
+            deleted += jdbcTemplate.update("delete from song where id in (:ids)", Map.of("ids", batch));
+        }
+        return deleted;
+    }
+
+    public int updateAll(List<Long> ids, Map<String, Object> columns) {
+        StringJoiner assignments = new StringJoiner(", ");
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        columns.forEach((column, value) -> {
+            assignments.add(column + " = :" + column);
+            parameters.addValue(column, value);
+        });
+        assignments.add("version = version + 1");
+        String sql = "update song set " + assignments + " where id in (:ids)";
+        int updated = 0;
+        for (List<Long> batch : batches(ids)) {
+            updated += jdbcTemplate.update(sql, parameters.addValue("ids", batch));
+        }
+        return updated;
+    }
+
+    private static void appendContains(StringBuilder sql, MapSqlParameterSource parameters, String column,
+            String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        sql.append(" and ").append(column).append("_normalized like :").append(column).append(" escape '!'");
+        String escaped = TextNormalizer.normalize(value.trim())
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        parameters.addValue(column, "%" + escaped + "%");
+    }
+
+    private static SqlParameterSource insertParameters(Song song) {
+        return new MapSqlParameterSource()
+                .addValue("title", song.getTitle())
+                .addValue("artist", song.getArtist())
+                .addValue("album", song.getAlbum())
+                .addValue("titleNormalized", TextNormalizer.normalize(song.getTitle()))
+                .addValue("artistNormalized", TextNormalizer.normalize(song.getArtist()))
+                .addValue("albumNormalized", TextNormalizer.normalize(song.getAlbum()))
+                .addValue("duration", song.getDuration())
+                .addValue("releaseYear", song.getReleaseYear());
+    }
+
+    private static List<List<Long>> batches(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+}
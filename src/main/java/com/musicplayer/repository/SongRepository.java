@@ -1,21 +1,70 @@
 package com.musicplayer.repository;
 
+import com.musicplayer.dto.SongView;
 import com.musicplayer.model.Song;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface SongRepository extends JpaRepository<Song, Long> {
+public interface SongRepository extends JpaRepository<Song, Long>, SongViewRepository {
 
-    List<Song> findByArtistContainingIgnoreCase(String artist);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Song> findByArtistNormalizedContaining(String artist);
 
-    List<Song> findByAlbumContainingIgnoreCase(String album);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Song> findByAlbumNormalizedContaining(String album);
 
-    List<Song> findByTitleContainingIgnoreCase(String title);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Song> findByTitleNormalizedContaining(String title);
 
-    List<Song> findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Song> findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
             String title,
             String artist,
             String album);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Song> findByTitleNormalizedStartingWithOrderByTitleNormalizedAscIdAsc(String prefix, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Song> findByArtistNormalizedStartingWithOrderByArtistNormalizedAscIdAsc(String prefix, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Song> findByAlbumNormalizedStartingWithOrderByAlbumNormalizedAscIdAsc(String prefix, Limit limit);
+
+    @Query("select s from Song s order by s.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Song> streamAll();
+
+    List<SongView> findAllBy();
+
+    Page<SongView> findPageBy(Pageable pageable);
+
+    Slice<SongView> findSliceBy(Pageable pageable);
+
+    Window<SongView> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Song s where s.id = :id")
+    int deleteSongById(@Param("id") Long id);
+
 }
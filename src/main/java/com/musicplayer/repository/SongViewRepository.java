@@ -0,0 +1,19 @@
+package com.musicplayer.repository;
+
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface SongViewRepository {
+
+    List<SongView> findViews(SongFields fields, Sort sort);
+
+    Page<SongView> findViewPage(SongFields fields, Pageable pageable);
+
+    Slice<SongView> findViewSlice(SongFields fields, Pageable pageable);
+}
@@ -0,0 +1,87 @@
+package com.musicplayer.repository;
+
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import com.musicplayer.model.Song;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class SongViewRepositoryImpl implements SongViewRepository {
+
+    private final EntityManager entityManager;
+
+    SongViewRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<SongView> findViews(SongFields fields, Sort sort) {
+        return select(fields, sort, 0, -1);
+    }
+
+    @Override
+    public Page<SongView> findViewPage(SongFields fields, Pageable pageable) {
+        List<SongView> content = select(fields, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
+    }
+
+    @Override
+    public Slice<SongView> findViewSlice(SongFields fields, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<SongView> content = select(fields, pageable.getSort(), pageable.getOffset(), size + 1);
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, pageable, hasNext);
+    }
+
+    private List<SongView> select(SongFields fields, Sort sort, long offset, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Song> song = query.from(Song.class);
+        List<Selection<?>> columns = new ArrayList<>(fields.names().size());
+        for (String name : fields.names()) {
+            columns.add(song.get(name).alias(name));
+        }
+        query.multiselect(columns).orderBy(QueryUtils.toOrders(sort, song, builder));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query).setFirstResult(Math.toIntExact(offset));
+        if (limit >= 0) {
+            typed.setMaxResults(limit);
+        }
+        List<Tuple> rows = typed.getResultList();
+        List<SongView> views = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            views.add(new SongView(
+                    row.get("id", Long.class),
+                    value(row, fields, "title", String.class, null),
+                    value(row, fields, "artist", String.class, null),
+                    value(row, fields, "album", String.class, null),
+                    value(row, fields, "duration", Integer.class, 0),
+                    value(row, fields, "releaseYear", Integer.class, 0),
+                    value(row, fields, "version", Long.class, null)));
+        }
+        return views;
+    }
+
+    private long count() {
+        return entityManager.createQuery("select count(s) from Song s", Long.class).getSingleResult();
+    }
+
+    private static <T> T value(Tuple row, SongFields fields, String name, Class<T> type, T absent) {
+        return fields.contains(name) ? row.get(name, type) : absent;
+    }
+}
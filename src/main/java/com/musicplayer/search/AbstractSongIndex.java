@@ -0,0 +1,166 @@
+package com.musicplayer.search;
+
+import com.musicplayer.dto.SongChanges;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.model.Song;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public abstract class AbstractSongIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    private Set<Long> touchedWhileLoading;
+    private Map<Long, List<SongChanges>> updatedWhileLoading;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild(Consumer<Consumer<Song>> source) {
+        write(() -> {
+            ready = false;
+            clear();
+            touchedWhileLoading = new HashSet<>();
+            updatedWhileLoading = new HashMap<>();
+        });
+        try {
+            source.accept(song -> write(() -> {
+                if (!touchedWhileLoading.contains(song.getId())) {
+                    put(updated(song, updatedWhileLoading.getOrDefault(song.getId(), List.of())));
+                }
+            }));
+            write(() -> ready = true);
+        } finally {
+            write(() -> {
+                touchedWhileLoading = null;
+                updatedWhileLoading = null;
+            });
+        }
+    }
+
+    @EventListener
+    public void onSongSaved(SongSavedEvent event) {
+        index(event.song());
+    }
+
+    @EventListener
+    public void onSongsSaved(SongsSavedEvent event) {
+        event.songs().forEach(this::index);
+    }
+
+    @EventListener
+    public void onSongsUpdated(SongsUpdatedEvent event) {
+        SongChanges changes = event.changes();
+        if (changes.title() == null && changes.artist() == null && changes.album() == null) {
+            return;
+        }
+        event.ids().forEach(id -> update(id, changes));
+    }
+
+    @EventListener
+    public void onSongDeleted(SongDeletedEvent event) {
+        remove(event.id());
+    }
+
+    @EventListener
+    public void onSongsDeleted(SongsDeletedEvent event) {
+        event.ids().forEach(this::remove);
+    }
+
+    public void index(Song song) {
+        write(() -> {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(song.getId());
+            }
+            put(song);
+        });
+    }
+
+    public void update(Long id, SongChanges changes) {
+        write(() -> {
+            Song song = get(id);
+            if (song != null) {
+                put(updated(song, List.of(changes)));
+            } else if (updatedWhileLoading != null) {
+                updatedWhileLoading.computeIfAbsent(id, key -> new ArrayList<>()).add(changes);
+            }
+        });
+    }
+
+    public void remove(Long id) {
+        write(() -> {
+            if (touchedWhileLoading != null) {
+                touchedWhileLoading.add(id);
+            }
+            delete(id);
+        });
+    }
+
+    protected abstract Song get(Long id);
+
+    protected abstract void put(Song song);
+
+    protected abstract void delete(Long id);
+
+    protected abstract void clear();
+
+    private static Song updated(Song song, List<SongChanges> changes) {
+        if (changes.isEmpty()) {
+            return song;
+        }
+        Song updated = new Song();
+        updated.setId(song.getId());
+        updated.setTitle(song.getTitle());
+        updated.setArtist(song.getArtist());
+        updated.setAlbum(song.getAlbum());
+        for (SongChanges change : changes) {
+            if (change.title() != null) {
+                updated.setTitle(change.title());
+            }
+            if (change.artist() != null) {
+                updated.setArtist(change.artist());
+            }
+            if (change.album() != null) {
+                updated.setAlbum(change.album());
+            }
+        }
+        return updated;
+    }
+
+    protected <T> T read(Supplier<T> action) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return action.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    protected void write(Runnable action) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
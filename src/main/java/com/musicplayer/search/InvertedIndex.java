@@ -0,0 +1,54 @@
+package com.musicplayer.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+final class InvertedIndex {
+
+    private final NavigableMap<String, PostingList> terms = new TreeMap<>();
+
+    void add(long id, String normalized) {
+        for (String token : TextNormalizer.tokens(normalized)) {
+            terms.computeIfAbsent(token, key -> new PostingList()).add(id);
+        }
+    }
+
+    void remove(long id, String normalized) {
+        for (String token : TextNormalizer.tokens(normalized)) {
+            PostingList postings = terms.get(token);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                terms.remove(token);
+            }
+        }
+    }
+
+    long[] postings(String term) {
+        PostingList postings = terms.get(term);
+        return postings == null ? new long[0] : postings.toArray();
+    }
+
+    long[] postingsWithPrefix(String prefix) {
+        return PostingList.union(terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+    }
+
+    long[] postingsContaining(String fragment) {
+        List<PostingList> matches = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : terms.entrySet()) {
+            if (entry.getKey().contains(fragment)) {
+                matches.add(entry.getValue());
+            }
+        }
+        return PostingList.union(matches);
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    void clear() {
+        terms.clear();
+    }
+}
@@ -0,0 +1,97 @@
+package com.musicplayer.search;
+
+import java.util.Arrays;
+
+final class PostingList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = new long[2];
+    private int size;
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            insertAt(-index - 1, id);
+            return;
+        }
+        insertAt(size, id);
+    }
+
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[n++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    static long[] union(Iterable<PostingList> lists) {
+        int total = 0;
+        for (PostingList list : lists) {
+            total += list.size;
+        }
+        if (total == 0) {
+            return EMPTY;
+        }
+        long[] result = new long[total];
+        int n = 0;
+        for (PostingList list : lists) {
+            System.arraycopy(list.ids, 0, result, n, list.size);
+            n += list.size;
+        }
+        Arrays.sort(result);
+        int unique = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (i == 0 || result[i] != result[i - 1]) {
+                result[unique++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, unique);
+    }
+
+    private void insertAt(int index, long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+}
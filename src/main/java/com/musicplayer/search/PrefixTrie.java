@@ -0,0 +1,203 @@
+package com.musicplayer.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+final class PrefixTrie {
+
+    record Completion(String value, int count) {
+    }
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Completion[] NO_COMPLETIONS = new Completion[0];
+    private static final Comparator<Completion> BY_POPULARITY = Comparator.comparingInt(Completion::count)
+            .reversed()
+            .thenComparing(Completion::value);
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private String value;
+        private int count;
+        private Completion[] top = NO_COMPLETIONS;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private final int topK;
+    private final Node root = new Node("");
+    private int size;
+
+    PrefixTrie(int topK) {
+        this.topK = topK;
+    }
+
+    String increment(String key, String display) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        int i = 0;
+        while (i < key.length()) {
+            int index = childIndex(node, key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i));
+                addChild(node, leaf);
+                node = leaf;
+                path.push(node);
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = new Node[] { child };
+                node.children[index] = split;
+                child = split;
+            }
+            node = child;
+            path.push(node);
+            i += common;
+        }
+        if (node.value == null) {
+            node.value = display;
+            size++;
+        }
+        node.count++;
+        recompute(path);
+        return node.value;
+    }
+
+    void decrement(String key) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        int i = 0;
+        while (i < key.length()) {
+            int index = childIndex(node, key.charAt(i));
+            if (index < 0) {
+                return;
+            }
+            Node child = node.children[index];
+            if (!key.startsWith(child.label, i)) {
+                return;
+            }
+            node = child;
+            path.push(node);
+            i += child.label.length();
+        }
+        if (node.value == null) {
+            return;
+        }
+        if (--node.count == 0) {
+            node.value = null;
+            size--;
+            compact(path);
+        }
+        recompute(path);
+    }
+
+    List<Completion> complete(String prefix, int limit) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = childIndex(node, prefix.charAt(i));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (common < child.label.length() && i + common < prefix.length()) {
+                return List.of();
+            }
+            node = child;
+            i += common;
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void compact(Deque<Node> path) {
+        Node node = path.pop();
+        Node parent = path.peek();
+        if (node.children.length == 0) {
+            removeChild(parent, node);
+            if (parent != root && parent.value == null && parent.children.length == 1) {
+                merge(parent);
+            }
+        } else {
+            if (node.children.length == 1) {
+                merge(node);
+            }
+            path.push(node);
+        }
+    }
+
+    private void merge(Node node) {
+        Node child = node.children[0];
+        node.label = node.label + child.label;
+        node.children = child.children;
+        node.value = child.value;
+        node.count = child.count;
+        node.top = child.top;
+    }
+
+    private void recompute(Deque<Node> path) {
+        for (Node node : path) {
+            List<Completion> candidates = new ArrayList<>();
+            if (node.value != null) {
+                candidates.add(new Completion(node.value, node.count));
+            }
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BY_POPULARITY);
+            node.top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(NO_COMPLETIONS);
+        }
+    }
+
+    private static int childIndex(Node node, char first) {
+        for (int i = 0; i < node.children.length; i++) {
+            if (node.children[i].label.charAt(0) == first) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void addChild(Node parent, Node child) {
+        Node[] children = Arrays.copyOf(parent.children, parent.children.length + 1);
+        children[children.length - 1] = child;
+        parent.children = children;
+    }
+
+    private static void removeChild(Node parent, Node child) {
+        Node[] children = new Node[parent.children.length - 1];
+        int n = 0;
+        for (Node candidate : parent.children) {
+            if (candidate != child) {
+                children[n++] = candidate;
+            }
+        }
+        parent.children = children;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,40 @@
+package com.musicplayer.search;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.service.SongService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexInitializer.class);
+
+    private final SongService songService;
+    private final SongSearchIndex searchIndex;
+    private final SongSuggester suggester;
+    private final MusicPlayerProperties properties;
+
+    public SearchIndexInitializer(SongService songService, SongSearchIndex searchIndex, SongSuggester suggester,
+            MusicPlayerProperties properties) {
+        this.songService = songService;
+        this.searchIndex = searchIndex;
+        this.suggester = suggester;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        if (!properties.getSearch().isIndexEnabled()) {
+            log.info("Search index disabled, searches will query the database");
+            return;
+        }
+        long start = System.nanoTime();
+        searchIndex.rebuild(indexSong -> suggester.rebuild(suggestSong ->
+                songService.streamAllSongs(indexSong.andThen(suggestSong))));
+        log.info("Indexed {} songs for search in {} ms", searchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
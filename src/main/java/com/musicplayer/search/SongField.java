@@ -0,0 +1,46 @@
+package com.musicplayer.search;
+
+import com.musicplayer.model.Song;
+
+public enum SongField {
+
+    TITLE(3.0),
+    ARTIST(2.0),
+    ALBUM(1.0);
+
+    private final double weight;
+
+    SongField(double weight) {
+        this.weight = weight;
+    }
+
+    public double weight() {
+        return weight;
+    }
+
+    public static SongField from(String value) {
+        for (SongField field : values()) {
+            if (field.name().equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Field must be one of: title, artist, album");
+    }
+
+    public String valueOf(Song song) {
+        return switch (this) {
+            case TITLE -> song.getTitle();
+            case ARTIST -> song.getArtist();
+            case ALBUM -> song.getAlbum();
+        };
+    }
+
+    static Song song(Long id, String[] values) {
+        Song song = new Song();
+        song.setId(id);
+        song.setTitle(values[TITLE.ordinal()]);
+        song.setArtist(values[ARTIST.ordinal()]);
+        song.setAlbum(values[ALBUM.ordinal()]);
+        return song;
+    }
+}
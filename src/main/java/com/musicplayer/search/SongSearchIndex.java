@@ -0,0 +1,197 @@
+package com.musicplayer.search;
+
+import com.musicplayer.model.Song;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SongSearchIndex extends AbstractSongIndex {
+
+    private static final SongField[] FIELDS = SongField.values();
+
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final Map<SongField, InvertedIndex> fields = new EnumMap<>(SongField.class);
+    private final Map<SongField, TrigramIndex> trigrams = new EnumMap<>(SongField.class);
+
+    public SongSearchIndex() {
+        for (SongField field : FIELDS) {
+            fields.put(field, new InvertedIndex());
+            trigrams.put(field, new TrigramIndex());
+        }
+    }
+
+    public int size() {
+        return read(documents::size);
+    }
+
+    public long[] findContaining(SongField field, String value) {
+        String[] criteria = new String[FIELDS.length];
+        criteria[field.ordinal()] = value;
+        return findContaining(criteria);
+    }
+
+    public long[] findContaining(String title, String artist, String album) {
+        String[] criteria = new String[FIELDS.length];
+        criteria[SongField.TITLE.ordinal()] = title;
+        criteria[SongField.ARTIST.ordinal()] = artist;
+        criteria[SongField.ALBUM.ordinal()] = album;
+        return findContaining(criteria);
+    }
+
+    public List<Long> rank(String query, int limit) {
+        List<String> tokens = new ArrayList<>(TextNormalizer.tokens(TextNormalizer.normalize(query)));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> scores = read(() -> {
+            Map<Long, Double> accumulated = new HashMap<>();
+            for (SongField field : FIELDS) {
+                InvertedIndex index = fields.get(field);
+                for (int i = 0; i < tokens.size(); i++) {
+                    long[] exact = index.postings(tokens.get(i));
+                    addScores(accumulated, exact, field.weight());
+                    if (i == tokens.size() - 1) {
+                        long[] prefixed = index.postingsWithPrefix(tokens.get(i));
+                        addScores(accumulated, without(prefixed, exact), field.weight() / 2);
+                    }
+                }
+            }
+            return accumulated;
+        });
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private long[] findContaining(String[] criteria) {
+        String[] normalized = new String[criteria.length];
+        for (int i = 0; i < criteria.length; i++) {
+            normalized[i] = TextNormalizer.normalize(criteria[i]);
+        }
+        return read(() -> {
+            long[] candidates = null;
+            for (SongField field : FIELDS) {
+                String value = normalized[field.ordinal()];
+                if (value == null || value.isEmpty()) {
+                    continue;
+                }
+                long[] fieldCandidates = candidates(field, value);
+                if (fieldCandidates != null) {
+                    candidates = candidates == null ? fieldCandidates : PostingList.intersect(candidates, fieldCandidates);
+                }
+            }
+            return verify(candidates, normalized);
+        });
+    }
+
+    private long[] candidates(SongField field, String value) {
+        long[] candidates = trigrams.get(field).candidates(value);
+        if (candidates != null) {
+            return candidates;
+        }
+        for (String token : TextNormalizer.tokens(value)) {
+            long[] postings = fields.get(field).postingsContaining(token);
+            candidates = candidates == null ? postings : PostingList.intersect(candidates, postings);
+            if (candidates.length == 0) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private long[] verify(long[] candidates, String[] criteria) {
+        Iterator<Long> ids = candidates == null
+                ? documents.keySet().iterator()
+                : Arrays.stream(candidates).iterator();
+        long[] matches = new long[candidates == null ? documents.size() : candidates.length];
+        int n = 0;
+        while (ids.hasNext()) {
+            Long id = ids.next();
+            if (matches(documents.get(id), criteria)) {
+                matches[n++] = id;
+            }
+        }
+        long[] result = Arrays.copyOf(matches, n);
+        if (candidates == null) {
+            Arrays.sort(result);
+        }
+        return result;
+    }
+
+    private static boolean matches(String[] document, String[] criteria) {
+        if (document == null) {
+            return false;
+        }
+        for (int i = 0; i < criteria.length; i++) {
+            if (criteria[i] != null && (document[i] == null || !document[i].contains(criteria[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected Song get(Long id) {
+        String[] document = documents.get(id);
+        return document == null ? null : SongField.song(id, document);
+    }
+
+    @Override
+    protected void put(Song song) {
+        String[] document = new String[FIELDS.length];
+        for (SongField field : FIELDS) {
+            document[field.ordinal()] = TextNormalizer.normalize(field.valueOf(song));
+        }
+        String[] previous = documents.put(song.getId(), document);
+        if (previous != null) {
+            unindex(song.getId(), previous);
+        }
+        for (SongField field : FIELDS) {
+            fields.get(field).add(song.getId(), document[field.ordinal()]);
+            trigrams.get(field).add(song.getId(), document[field.ordinal()]);
+        }
+    }
+
+    @Override
+    protected void delete(Long id) {
+        String[] previous = documents.remove(id);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+    }
+
+    @Override
+    protected void clear() {
+        documents.clear();
+        fields.values().forEach(InvertedIndex::clear);
+        trigrams.values().forEach(TrigramIndex::clear);
+    }
+
+    private void unindex(long id, String[] document) {
+        for (SongField field : FIELDS) {
+            fields.get(field).remove(id, document[field.ordinal()]);
+            trigrams.get(field).remove(id, document[field.ordinal()]);
+        }
+    }
+
+    private static void addScores(Map<Long, Double> scores, long[] ids, double weight) {
+        for (long id : ids) {
+            scores.merge(id, weight, Double::sum);
+        }
+    }
+
+    private static long[] without(long[] ids, long[] excluded) {
+        return Arrays.stream(ids).filter(id -> Arrays.binarySearch(excluded, id) < 0).toArray();
+    }
+}
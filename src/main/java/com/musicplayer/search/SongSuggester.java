@@ -0,0 +1,78 @@
+package com.musicplayer.search;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.Suggestion;
+import com.musicplayer.model.Song;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SongSuggester extends AbstractSongIndex {
+
+    private static final SongField[] FIELDS = SongField.values();
+
+    private final int maxResults;
+    private final Map<SongField, PrefixTrie> tries = new EnumMap<>(SongField.class);
+    private final Map<Long, String[]> values = new HashMap<>();
+
+    public SongSuggester(MusicPlayerProperties properties) {
+        this.maxResults = properties.getSearch().getSuggestMaxResults();
+        clear();
+    }
+
+    public int maxResults() {
+        return maxResults;
+    }
+
+    public List<Suggestion> suggest(SongField field, String prefix, int limit) {
+        String key = TextNormalizer.normalize(prefix);
+        return read(() -> tries.get(field).complete(key, limit).stream()
+                .map(completion -> new Suggestion(completion.value(), completion.count()))
+                .toList());
+    }
+
+    @Override
+    protected Song get(Long id) {
+        String[] canonical = values.get(id);
+        return canonical == null ? null : SongField.song(id, canonical);
+    }
+
+    @Override
+    protected void put(Song song) {
+        delete(song.getId());
+        String[] canonical = new String[FIELDS.length];
+        for (SongField field : FIELDS) {
+            String value = field.valueOf(song);
+            if (value != null && !value.isBlank()) {
+                canonical[field.ordinal()] = tries.get(field).increment(TextNormalizer.normalize(value), value);
+            }
+        }
+        values.put(song.getId(), canonical);
+    }
+
+    @Override
+    protected void delete(Long id) {
+        String[] previous = values.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (SongField field : FIELDS) {
+            String value = previous[field.ordinal()];
+            if (value != null) {
+                tries.get(field).decrement(TextNormalizer.normalize(value));
+            }
+        }
+    }
+
+    @Override
+    protected void clear() {
+        values.clear();
+        for (SongField field : FIELDS) {
+            tries.put(field, new PrefixTrie(maxResults));
+        }
+    }
+}
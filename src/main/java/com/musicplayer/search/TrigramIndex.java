@@ -0,0 +1,72 @@
+package com.musicplayer.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, PostingList> grams = new HashMap<>();
+
+    void add(long id, String normalized) {
+        for (long gram : trigrams(normalized)) {
+            grams.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    void remove(long id, String normalized) {
+        for (long gram : trigrams(normalized)) {
+            PostingList postings = grams.get(gram);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    long[] candidates(String fragment) {
+        if (fragment.length() < GRAM_LENGTH) {
+            return null;
+        }
+        List<PostingList> lists = new ArrayList<>();
+        for (long gram : trigrams(fragment)) {
+            PostingList postings = grams.get(gram);
+            if (postings == null) {
+                return new long[0];
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        long[] candidates = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = PostingList.intersect(candidates, lists.get(i).toArray());
+        }
+        return candidates;
+    }
+
+    int gramCount() {
+        return grams.size();
+    }
+
+    void clear() {
+        grams.clear();
+    }
+
+    private static Set<Long> trigrams(String normalized) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        if (normalized == null) {
+            return trigrams;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            trigrams.add(((long) normalized.charAt(i) << 32)
+                    | ((long) normalized.charAt(i + 1) << 16)
+                    | normalized.charAt(i + 2));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,54 @@
+package com.musicplayer.service;
+
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.repository.CatalogVersionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CatalogVersion {
+
+    private static final int EPOCH_SHIFT = 32;
+
+    private final AtomicLong version;
+
+    public CatalogVersion(CatalogVersionRepository repository) {
+        this.version = new AtomicLong(repository.nextEpoch() << EPOCH_SHIFT);
+    }
+
+    public long get() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSongSaved(SongSavedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSongDeleted(SongDeletedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSongsSaved(SongsSavedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSongsUpdated(SongsUpdatedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSongsDeleted(SongsDeletedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,17 @@
+package com.musicplayer.service;
+
+public enum PageCountMode {
+
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static PageCountMode from(String value) {
+        for (PageCountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Count mode must be one of: exact, none, estimated");
+    }
+}
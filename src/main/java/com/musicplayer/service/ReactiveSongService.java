@@ -0,0 +1,139 @@
+package com.musicplayer.service;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.exception.SearchIndexUnavailableException;
+import com.musicplayer.exception.SongNotFoundException;
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.ReactiveSongRepository;
+import com.musicplayer.search.SongSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSongService {
+
+    private final ReactiveSongRepository songRepository;
+    private final SongSearchIndex searchIndex;
+    private final MusicPlayerProperties properties;
+    private final Mono<Long> estimatedCount;
+
+    public ReactiveSongService(ReactiveSongRepository songRepository, SongSearchIndex searchIndex,
+            MusicPlayerProperties properties) {
+        this.songRepository = songRepository;
+        this.searchIndex = searchIndex;
+        this.properties = properties;
+        this.estimatedCount = songRepository.count().cache(
+                count -> properties.getPagination().getCountCacheTtl(),
+                error -> Duration.ZERO,
+                () -> Duration.ZERO);
+    }
+
+    public Flux<Song> getAllSongs() {
+        return songRepository.findAll();
+    }
+
+    public Mono<Song> getSongById(Long id) {
+        return songRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new SongNotFoundException("Song with ID " + id + " not found")));
+    }
+
+    public Mono<Slice<Song>> getSongs(int page, int size, String sortBy, String direction, PageCountMode count) {
+        Sort sort = direction.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+        return switch (count) {
+            case NONE -> slice(pageable);
+            case ESTIMATED -> Mono.zip(slice(pageable), estimatedCount).map(result -> {
+                Slice<Song> slice = result.getT1();
+                long seen = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+                return new PageImpl<>(slice.getContent(), pageable, Math.max(result.getT2(), seen));
+            });
+            case EXACT -> Mono.zip(songRepository.findPage(pageable, size).collectList(), songRepository.count())
+                    .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+        };
+    }
+
+    private Mono<Slice<Song>> slice(Pageable pageable) {
+        int size = pageable.getPageSize();
+        return songRepository.findPage(pageable, size + 1)
+                .collectList()
+                .map(songs -> songs.size() > size
+                        ? new SliceImpl<>(songs.subList(0, size), pageable, true)
+                        : new SliceImpl<>(songs, pageable, false));
+    }
+
+    public Flux<Song> searchSongsByTitle(String title) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Title cannot be blank");
+        }
+        return orNotFound(songRepository.findContaining(title, null, null),
+                () -> "No songs found with title: " + title);
+    }
+
+    public Flux<Song> searchSongsByArtist(String artist) {
+        if (artist == null || artist.trim().isEmpty()) {
+            throw new IllegalArgumentException("Artist cannot be blank");
+        }
+        return orNotFound(songRepository.findContaining(null, artist, null),
+                () -> "No songs found for artist: " + artist);
+    }
+
+    public Flux<Song> searchSongsByAlbum(String album) {
+        if (album == null || album.trim().isEmpty()) {
+            throw new IllegalArgumentException("Album cannot be blank");
+        }
+        return orNotFound(songRepository.findContaining(null, null, album),
+                () -> "No songs found for album: " + album);
+    }
+
+    public Flux<Song> searchSongs(String title, String artist, String album) {
+        String normalizedTitle = title != null ? title.trim() : "";
+        String normalizedArtist = artist != null ? artist.trim() : "";
+        String normalizedAlbum = album != null ? album.trim() : "";
+
+        if (normalizedTitle.isEmpty() && normalizedArtist.isEmpty() && normalizedAlbum.isEmpty()) {
+            throw new IllegalArgumentException("At least one search criteria must be provided");
+        }
+
+        return orNotFound(songRepository.findContaining(normalizedTitle, normalizedArtist, normalizedAlbum),
+                () -> "No songs found matching title: " + normalizedTitle +
+                        ", artist: " + normalizedArtist +
+                        ", album: " + normalizedAlbum);
+    }
+
+    public Flux<Song> searchSongsRanked(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Query cannot be blank");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        if (!searchIndex.isReady()) {
+            throw new SearchIndexUnavailableException("Search index is not ready");
+        }
+        List<Long> ids = searchIndex.rank(query, limit);
+        Flux<Song> songs = songRepository.findAllById(ids)
+                .collectMap(Song::getId)
+                .flatMapIterable(found -> ids.stream().map(found::get).filter(song -> song != null).toList());
+        return orNotFound(songs, () -> "No songs found matching: " + query);
+    }
+
+    private Flux<Song> orNotFound(Flux<Song> songs, Supplier<String> message) {
+        if (!properties.getSearch().isEmptyAsNotFound()) {
+            return songs;
+        }
+        return songs.switchIfEmpty(Mono.error(() -> SongNotFoundException.withoutStackTrace(message.get())));
+    }
+}
@@ -0,0 +1,149 @@
+package com.musicplayer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.SongChanges;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.model.Song;
+import com.musicplayer.search.TextNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    public record Key(String title, String artist, String album) {
+
+        public static Key of(String title, String artist, String album) {
+            return new Key(TextNormalizer.normalize(title), TextNormalizer.normalize(artist),
+                    TextNormalizer.normalize(album));
+        }
+
+        static Key of(Song song) {
+            return of(song.getTitle(), song.getArtist(), song.getAlbum());
+        }
+
+        boolean matches(Key song) {
+            return contains(song.title, title) && contains(song.artist, artist) && contains(song.album, album);
+        }
+
+        private static boolean contains(String value, String criterion) {
+            return criterion == null || value != null && value.contains(criterion);
+        }
+    }
+
+    private final Cache<Key, long[]> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchResultCache(MusicPlayerProperties properties) {
+        MusicPlayerProperties.Cache config = properties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getSearchMaxEntries())
+                .expireAfterWrite(config.getSearchTtl())
+                .recordStats()
+                .build();
+    }
+
+    public long[] getIfPresent(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(Key key, long generation, long[] ids) {
+        if (this.generation.get() != generation) {
+            return;
+        }
+        cache.put(key, ids);
+        if (this.generation.get() != generation) {
+            cache.asMap().remove(key, ids);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "search-results");
+    }
+
+    @EventListener
+    public void onSongSaved(SongSavedEvent event) {
+        generation.incrementAndGet();
+        Long id = event.song().getId();
+        Key saved = Key.of(event.song());
+        invalidate((key, ids) -> contains(ids, id) || key.matches(saved));
+    }
+
+    @EventListener
+    public void onSongsSaved(SongsSavedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onSongsUpdated(SongsUpdatedEvent event) {
+        generation.incrementAndGet();
+        SongChanges changes = event.changes();
+        if (changes.title() != null || changes.artist() != null || changes.album() != null) {
+            cache.invalidateAll();
+            return;
+        }
+        Set<Long> updated = new HashSet<>(event.ids());
+        invalidate((key, ids) -> Arrays.stream(ids).anyMatch(updated::contains));
+    }
+
+    @EventListener
+    public void onSongDeleted(SongDeletedEvent event) {
+        generation.incrementAndGet();
+        invalidate((key, ids) -> contains(ids, event.id()));
+    }
+
+    @EventListener
+    public void onSongsDeleted(SongsDeletedEvent event) {
+        generation.incrementAndGet();
+        Set<Long> deleted = new HashSet<>(event.ids());
+        invalidate((key, ids) -> Arrays.stream(ids).anyMatch(deleted::contains));
+    }
+
+    private void invalidate(BiPredicate<Key, long[]> affected) {
+        List<Key> keys = new ArrayList<>();
+        cache.asMap().forEach((key, ids) -> {
+            if (affected.test(key, ids)) {
+                keys.add(key);
+            }
+        });
+        cache.invalidateAll(keys);
+    }
+
+    private static boolean contains(long[] ids, Long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,125 @@
+package com.musicplayer.service;
+
+import com.musicplayer.dto.BulkDeleteRequest;
+import com.musicplayer.dto.BulkUpdateRequest;
+import com.musicplayer.dto.BulkWriteResult;
+import com.musicplayer.dto.SongChanges;
+import com.musicplayer.dto.SongFilter;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.repository.SongBatchRepository;
+import com.musicplayer.search.TextNormalizer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class SongBulkService {
+
+    private final SongBatchRepository songBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SongBulkService(SongBatchRepository songBatchRepository, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher) {
+        this.songBatchRepository = songBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public BulkWriteResult deleteSongs(BulkDeleteRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Either ids or a filter must be provided");
+        }
+        List<Long> ids = new ArrayList<>();
+        int deleted = transactionTemplate.execute(status -> {
+            ids.addAll(targetIds(request.ids(), request.filter()));
+            return songBatchRepository.deleteAllById(ids);
+        });
+        if (!ids.isEmpty()) {
+            eventPublisher.publishEvent(new SongsDeletedEvent(List.copyOf(ids)));
+        }
+        return new BulkWriteResult(deleted);
+    }
+
+    public BulkWriteResult updateSongs(BulkUpdateRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Either ids or a filter must be provided");
+        }
+        Map<String, Object> columns = columns(request.set());
+        List<Long> ids = new ArrayList<>();
+        int updated = transactionTemplate.execute(status -> {
+            ids.addAll(targetIds(request.ids(), request.filter()));
+            return songBatchRepository.updateAll(ids, columns);
+        });
+        if (updated > 0) {
+            eventPublisher.publishEvent(new SongsUpdatedEvent(List.copyOf(ids), request.set()));
+        }
+        return new BulkWriteResult(updated);
+    }
+
+    private List<Long> targetIds(List<Long> ids, SongFilter filter) {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = filter != null && !filter.isEmpty();
+        if (hasIds == hasFilter) {
+            throw new IllegalArgumentException(hasIds
+                    ? "Provide either ids or a filter, not both"
+                    : "Either ids or a filter must be provided");
+        }
+        if (hasIds) {
+            return ids.stream().filter(Objects::nonNull).distinct().toList();
+        }
+        return songBatchRepository.findIdsMatching(filter.title(), filter.artist(), filter.album());
+    }
+
+    private Map<String, Object> columns(SongChanges changes) {
+        if (changes == null) {
+            throw new IllegalArgumentException("At least one field must be set");
+        }
+        Map<String, Object> columns = new LinkedHashMap<>();
+        if (changes.title() != null) {
+            if (changes.title().isBlank()) {
+                throw new IllegalArgumentException("Song title is required");
+            }
+            columns.put("title", changes.title());
+            columns.put("title_normalized", TextNormalizer.normalize(changes.title()));
+        }
+        if (changes.artist() != null) {
+            if (changes.artist().isBlank()) {
+                throw new IllegalArgumentException("Artist name is required");
+            }
+            columns.put("artist", changes.artist());
+            columns.put("artist_normalized", TextNormalizer.normalize(changes.artist()));
+        }
+        if (changes.album() != null) {
+            columns.put("album", changes.album());
+            columns.put("album_normalized", TextNormalizer.normalize(changes.album()));
+        }
+        if (changes.duration() != null) {
+            if (changes.duration() <= 0) {
+                throw new IllegalArgumentException("Duration must be greater than zero");
+            }
+            columns.put("duration", changes.duration());
+        }
+        if (changes.releaseYear() != null) {
+            if (changes.releaseYear() < 1877) {
+                throw new IllegalArgumentException("Release year cannot be before 1877");
+            }
+            if (changes.releaseYear() > Year.now().getValue()) {
+                throw new IllegalArgumentException("Release year cannot be in the future");
+            }
+            columns.put("release_year", changes.releaseYear());
+        }
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be set");
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,116 @@
+package com.musicplayer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.model.Song;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class SongCache implements MeterBinder {
+
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final Cache<Long, Song> cache;
+
+    private final AtomicLong writes = new AtomicLong();
+
+    @Autowired
+    public SongCache(MusicPlayerProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    SongCache(MusicPlayerProperties properties, Ticker ticker) {
+        MusicPlayerProperties.Cache config = properties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(config.getSongMaxSize().toBytes())
+                .weigher(SongCache::weigh)
+                .expireAfterWrite(config.getSongTtl())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    public Song get(Long id, Function<Long, Song> loader) {
+        return cache.get(id, loader);
+    }
+
+    public Map<Long, Song> getAll(Iterable<Long> ids, Function<Set<? extends Long>, Map<Long, Song>> loader) {
+        long before = writes.get();
+        Map<Long, Song> found = cache.getAll(ids, loader);
+        if (writes.get() != before) {
+            cache.invalidateAll(found.keySet());
+        }
+        return found;
+    }
+
+    public void invalidate(Long id) {
+        writes.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "songs");
+    }
+
+    @EventListener
+    public void onSongSaved(SongSavedEvent event) {
+        invalidate(event.song().getId());
+    }
+
+    @EventListener
+    public void onSongDeleted(SongDeletedEvent event) {
+        invalidate(event.id());
+    }
+
+    @EventListener
+    public void onSongsSaved(SongsSavedEvent event) {
+        invalidateAll(event.songs().stream().map(Song::getId).toList());
+    }
+
+    @EventListener
+    public void onSongsUpdated(SongsUpdatedEvent event) {
+        invalidateAll(event.ids());
+    }
+
+    @EventListener
+    public void onSongsDeleted(SongsDeletedEvent event) {
+        invalidateAll(event.ids());
+    }
+
+    private void invalidateAll(List<Long> ids) {
+        writes.incrementAndGet();
+        cache.invalidateAll(ids);
+    }
+
+    private static int weigh(Long id, Song song) {
+        return ENTRY_OVERHEAD + 2 * (length(song.getTitle()) + length(song.getArtist()) + length(song.getAlbum()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
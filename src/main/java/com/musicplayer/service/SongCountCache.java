@@ -0,0 +1,49 @@
+package com.musicplayer.service;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.repository.SongRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class SongCountCache {
+
+    private final SongRepository songRepository;
+    private final MusicPlayerProperties properties;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile long count;
+    private volatile long expiresAt = Long.MIN_VALUE;
+
+    @Autowired
+    public SongCountCache(SongRepository songRepository, MusicPlayerProperties properties) {
+        this(songRepository, properties, Clock.systemUTC());
+    }
+
+    SongCountCache(SongRepository songRepository, MusicPlayerProperties properties, Clock clock) {
+        this.songRepository = songRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public long get() {
+        if (clock.millis() < expiresAt) {
+            return count;
+        }
+        refreshLock.lock();
+        try {
+            long now = clock.millis();
+            if (now >= expiresAt) {
+                count = songRepository.count();
+                expiresAt = now + properties.getPagination().getCountCacheTtl().toMillis();
+            }
+            return count;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
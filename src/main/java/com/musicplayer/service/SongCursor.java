@@ -0,0 +1,97 @@
+package com.musicplayer.service;
+
+import com.musicplayer.dto.SongView;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+record SongCursor(String sortBy, Sort.Direction direction, Long lastId, Object lastValue) {
+
+    static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "artist", "duration", "releaseYear");
+
+    private static final char SEPARATOR = ':';
+
+    SongCursor {
+        if (!SORTABLE_PROPERTIES.contains(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination is not supported for sortBy: " + sortBy);
+        }
+    }
+
+    static SongCursor first(String sortBy, String direction) {
+        return new SongCursor(sortBy, parseDirection(direction), null, null);
+    }
+
+    static SongCursor after(SongCursor previous, SongView last) {
+        return new SongCursor(previous.sortBy(), previous.direction(), last.id(), valueOf(previous.sortBy(), last));
+    }
+
+    static SongCursor decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String[] parts = decoded.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            String sortBy = parts[0];
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            Long lastId = Long.valueOf(parts[2]);
+            return new SongCursor(sortBy, direction, lastId, parseValue(sortBy, parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Sort sort() {
+        return "id".equals(sortBy)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortBy, "id");
+    }
+
+    KeysetScrollPosition position() {
+        if (lastId == null) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortBy, lastValue);
+        keys.put("id", lastId);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Sort.Direction parseDirection(String direction) {
+        return "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+
+    private static Object valueOf(String sortBy, SongView song) {
+        return switch (sortBy) {
+            case "title" -> song.title();
+            case "artist" -> song.artist();
+            case "duration" -> song.duration();
+            case "releaseYear" -> song.releaseYear();
+            default -> song.id();
+        };
+    }
+
+    private static Object parseValue(String sortBy, String value) {
+        return switch (sortBy) {
+            case "duration", "releaseYear" -> Integer.valueOf(value);
+            case "id" -> Long.valueOf(value);
+            default -> value;
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.musicplayer.service;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.BulkImportResult;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.SongBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+public class SongImportService {
+
+    private final SongBatchRepository songBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MusicPlayerProperties properties;
+
+    public SongImportService(SongBatchRepository songBatchRepository, TransactionTemplate transactionTemplate,
+            Validator validator, ApplicationEventPublisher eventPublisher, MusicPlayerProperties properties) {
+        this.songBatchRepository = songBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    public BulkImportResult importSongs(Iterator<Song> songs) {
+        int batchSize = properties.getBulk().getBatchSize();
+        List<Song> batch = new ArrayList<>(batchSize);
+        List<Long> rows = new ArrayList<>(batchSize);
+        List<BulkImportResult.RowError> errors = new ArrayList<>();
+        int received = 0;
+        int inserted = 0;
+
+        while (songs.hasNext()) {
+            Song song = songs.next();
+            long row = received++;
+            Map<String, String> violations = validate(song);
+            if (!violations.isEmpty()) {
+                errors.add(new BulkImportResult.RowError(row, violations));
+                continue;
+            }
+            song.setId(null);
+            batch.add(song);
+            rows.add(row);
+            if (batch.size() == batchSize) {
+                inserted += insertBatch(batch, rows, errors::add);
+                batch.clear();
+                rows.clear();
+            }
+        }
+        inserted += insertBatch(batch, rows, errors::add);
+        return new BulkImportResult(received, inserted, errors);
+    }
+
+    public int insertBatch(List<Song> batch, List<Long> rows, Consumer<BulkImportResult.RowError> errors) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> songBatchRepository.insertAll(batch));
+            eventPublisher.publishEvent(new SongsSavedEvent(List.copyOf(batch)));
+            return batch.size();
+        } catch (DataAccessException ex) {
+            if (batch.size() == 1) {
+                errors.accept(new BulkImportResult.RowError(rows.get(0),
+                        Map.of("song", ex.getMostSpecificCause().getMessage())));
+                return 0;
+            }
+            int inserted = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                inserted += insertBatch(List.of(batch.get(i)), List.of(rows.get(i)), errors);
+            }
+            return inserted;
+        }
+    }
+
+    public Map<String, String> validate(Song song) {
+        if (song == null) {
+            return Map.of("song", "Song cannot be null");
+        }
+        Map<String, String> violations = new LinkedHashMap<>();
+        for (ConstraintViolation<Song> violation : validator.validate(song)) {
+            violations.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,87 @@
+package com.musicplayer.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.musicplayer.model.Song;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class SongPatcher {
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "artist", "album", "duration", "releaseYear");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public SongPatcher(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public boolean apply(Song song, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        ObjectNode changes = ((ObjectNode) patch).deepCopy();
+        JsonNode version = changes.remove("version");
+        if (version != null && !version.isNull()) {
+            if (!version.canConvertToLong()) {
+                throw new IllegalArgumentException("Invalid value for field: version");
+            }
+            checkVersion(song, version.asLong());
+        }
+        JsonNode id = changes.remove("id");
+        if (id != null && !id.isNull() && id.asLong() != song.getId()) {
+            throw new IllegalArgumentException("Song ID cannot be changed");
+        }
+        changes.remove("releaseYearValid");
+        for (Iterator<String> fields = changes.fieldNames(); fields.hasNext();) {
+            String field = fields.next();
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+        if (changes.isEmpty()) {
+            return false;
+        }
+
+        List<Object> before = patchableValues(song);
+        try {
+            objectMapper.readerForUpdating(song).readValue(changes);
+        } catch (JsonMappingException e) {
+            String field = e.getPath().isEmpty() ? "unknown" : e.getPath().get(0).getFieldName();
+            throw new IllegalArgumentException("Invalid value for field: " + field);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid merge patch");
+        }
+        Set<ConstraintViolation<Song>> violations = validator.validate(song);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return !patchableValues(song).equals(before);
+    }
+
+    public void checkVersion(Song song, Long expected) {
+        if (expected != null && !expected.equals(song.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Song with ID " + song.getId() + " was modified by another request");
+        }
+    }
+
+    private List<Object> patchableValues(Song song) {
+        return Arrays.asList(song.getTitle(), song.getArtist(), song.getAlbum(), song.getDuration(),
+                song.getReleaseYear());
+    }
+}
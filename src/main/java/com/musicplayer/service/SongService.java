@@ -1,101 +1,228 @@
 package com.musicplayer.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.CursorPage;
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import com.musicplayer.dto.Suggestion;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.exception.SearchIndexUnavailableException;
 import com.musicplayer.exception.SongNotFoundException;
 import com.musicplayer.model.Song;
 import com.musicplayer.repository.SongRepository;
+import com.musicplayer.search.SongField;
+import com.musicplayer.search.SongSearchIndex;
+import com.musicplayer.search.SongSuggester;
+import com.musicplayer.search.TextNormalizer;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 @Service
 public class SongService {
 
+    private static final int ID_BATCH_SIZE = 1000;
+
+    private static final List<String> SORTABLE_PROPERTIES =
+            List.of("id", "title", "artist", "album", "duration", "releaseYear");
+
     private final SongRepository songRepository;
+    private final EntityManager entityManager;
+    private final SongCountCache songCountCache;
+    private final CatalogVersion catalogVersion;
+    private final SongCache songCache;
+    private final SearchResultCache searchResultCache;
+    private final SongSearchIndex searchIndex;
+    private final SongSuggester suggester;
+    private final SongPatcher songPatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MusicPlayerProperties properties;
 
-    public SongService(SongRepository songRepository) {
+    public SongService(SongRepository songRepository, EntityManager entityManager, SongCountCache songCountCache,
+            CatalogVersion catalogVersion, SongCache songCache, SearchResultCache searchResultCache,
+            SongSearchIndex searchIndex, SongSuggester suggester, SongPatcher songPatcher,
+            TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+            MusicPlayerProperties properties) {
         this.songRepository = songRepository;
+        this.entityManager = entityManager;
+        this.songCountCache = songCountCache;
+        this.catalogVersion = catalogVersion;
+        this.songCache = songCache;
+        this.searchResultCache = searchResultCache;
+        this.searchIndex = searchIndex;
+        this.suggester = suggester;
+        this.songPatcher = songPatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    public long catalogVersion() {
+        return catalogVersion.get();
     }
 
     public Song getSongById(Long id) {
-        return songRepository.findById(id)
-                .orElseThrow(() -> new SongNotFoundException("Song with ID " + id + " not found"));
+        Song song = songCache.get(id, key -> songRepository.findById(key).orElse(null));
+        if (song == null) {
+            throw new SongNotFoundException("Song with ID " + id + " not found");
+        }
+        return song;
+    }
+
+    public Page<SongView> getSongs(int page, int size, String sortBy, String direction, SongFields fields) {
+        Pageable pageable = pageRequest(page, size, sortBy, direction);
+        return fields.isAll() ? songRepository.findPageBy(pageable) : songRepository.findViewPage(fields, pageable);
+    }
+
+    public Slice<SongView> getSongSlice(int page, int size, String sortBy, String direction, SongFields fields) {
+        Pageable pageable = pageRequest(page, size, sortBy, direction);
+        return fields.isAll() ? songRepository.findSliceBy(pageable) : songRepository.findViewSlice(fields, pageable);
+    }
+
+    public Page<SongView> getSongsWithEstimatedTotal(int page, int size, String sortBy, String direction,
+            SongFields fields) {
+        Slice<SongView> slice = getSongSlice(page, size, sortBy, direction, fields);
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(songCountCache.get(), seen);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    private Pageable pageRequest(int page, int size, String sortBy, String direction) {
+        if (!SORTABLE_PROPERTIES.contains(sortBy)) {
+            throw new IllegalArgumentException("Sort field must be one of: " + String.join(", ", SORTABLE_PROPERTIES));
+        }
+        Sort.Direction order = direction.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = "id".equals(sortBy) ? Sort.by(order, "id") : Sort.by(order, sortBy, "id");
+        return PageRequest.of(page, size, sort);
     }
 
-    public Page<Song> getSongs(int page, int size, String sortBy, String direction) {
-        Sort sort = direction.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+    public CursorPage<SongView> getSongsAfter(String cursor, int size, String sortBy, String direction,
+            boolean includeTotal) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        SongCursor position = cursor == null || cursor.isBlank()
+                ? SongCursor.first(sortBy, direction)
+                : SongCursor.decode(cursor);
+
+        Window<SongView> window = songRepository.findBy(position.position(), position.sort(), Limit.of(size));
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            SongView last = window.getContent().get(window.size() - 1);
+            nextCursor = SongCursor.after(position, last).encode();
+        }
+        Long total = includeTotal ? songRepository.count() : null;
 
-        Pageable pageable = PageRequest.of(page, size, sort);
-        return songRepository.findAll(pageable);
+        return new CursorPage<>(window.getContent(), nextCursor, nextCursor != null, total);
     }
 
-    public List<Song> getAllSongs() {
-        return songRepository.findAll();
+    public List<SongView> getAllSongs(SongFields fields) {
+        return fields.isAll() ? songRepository.findAllBy() : songRepository.findViews(fields, Sort.unsorted());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllSongs(Consumer<Song> consumer) {
+        try (Stream<Song> songs = songRepository.streamAll()) {
+            songs.forEach(song -> {
+                consumer.accept(song);
+                entityManager.detach(song);
+            });
+        }
     }
 
     public Song saveSong(Song song) {
         if (song == null) {
             throw new IllegalArgumentException("Song cannot be null");
         }
-        return songRepository.save(song);
+        return published(songRepository.save(normalized(song)));
     }
 
     public void deleteSong(Long id) {
-        if (!songRepository.existsById(id)) {
+        if (songRepository.deleteSongById(id) == 0) {
             throw new SongNotFoundException("Song with ID " + id + " not found");
         }
-        songRepository.deleteById(id);
+        eventPublisher.publishEvent(new SongDeletedEvent(id));
     }
 
     public Song updateSong(Long id, Song updatedSong) {
         if (updatedSong == null) {
             throw new IllegalArgumentException("Song cannot be null");
         }
-        return songRepository.findById(id)
-                .map(song -> {
-                    song.setTitle(updatedSong.getTitle());
-                    song.setArtist(updatedSong.getArtist());
-                    song.setAlbum(updatedSong.getAlbum());
-                    song.setDuration(updatedSong.getDuration());
-                    song.setReleaseYear(updatedSong.getReleaseYear());
-                    return songRepository.save(song);
-                })
-                .orElseThrow(() -> new SongNotFoundException("Song with ID " + id + " not found"));
+        return published(transactionTemplate.execute(status -> {
+            Song song = songRepository.findById(id)
+                    .orElseThrow(() -> new SongNotFoundException("Song with ID " + id + " not found"));
+            songPatcher.checkVersion(song, updatedSong.getVersion());
+            song.setTitle(updatedSong.getTitle());
+            song.setArtist(updatedSong.getArtist());
+            song.setAlbum(updatedSong.getAlbum());
+            song.setDuration(updatedSong.getDuration());
+            song.setReleaseYear(updatedSong.getReleaseYear());
+            return songRepository.save(normalized(song));
+        }));
+    }
+
+    public Song patchSong(Long id, JsonNode patch) {
+        boolean[] changed = new boolean[1];
+        Song song = transactionTemplate.execute(status -> {
+            Song found = songRepository.findById(id)
+                    .orElseThrow(() -> new SongNotFoundException("Song with ID " + id + " not found"));
+            changed[0] = songPatcher.apply(found, patch);
+            return changed[0] ? songRepository.save(normalized(found)) : found;
+        });
+        return changed[0] ? published(song) : song;
     }
 
     public List<Song> searchSongsByTitle(String title) {
         if (title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("Title cannot be blank");
         }
-        List<Song> songs = songRepository.findByTitleContainingIgnoreCase(title);
-        if (songs.isEmpty()) {
-            throw new SongNotFoundException("No songs found with title: " + title);
-        }
-        return songs;
+        List<Song> songs = search(SearchResultCache.Key.of(title, null, null),
+                () -> searchIndex.findContaining(SongField.TITLE, title),
+                () -> songRepository.findByTitleNormalizedContaining(TextNormalizer.normalize(title)));
+        return orNotFound(songs, () -> "No songs found with title: " + title);
     }
 
     public List<Song> searchSongsByArtist(String artist) {
         if (artist == null || artist.trim().isEmpty()) {
             throw new IllegalArgumentException("Artist cannot be blank");
         }
-        List<Song> songs = songRepository.findByArtistContainingIgnoreCase(artist);
-        if (songs.isEmpty()) {
-            throw new SongNotFoundException("No songs found for artist: " + artist);
-        }
-        return songs;
+        List<Song> songs = search(SearchResultCache.Key.of(null, artist, null),
+                () -> searchIndex.findContaining(SongField.ARTIST, artist),
+                () -> songRepository.findByArtistNormalizedContaining(TextNormalizer.normalize(artist)));
+        return orNotFound(songs, () -> "No songs found for artist: " + artist);
     }
 
     public List<Song> searchSongsByAlbum(String album) {
         if (album == null || album.trim().isEmpty()) {
             throw new IllegalArgumentException("Album cannot be blank");
         }
-        List<Song> songs = songRepository.findByAlbumContainingIgnoreCase(album);
-        if (songs.isEmpty()) {
-            throw new SongNotFoundException("No songs found for album: " + album);
-        }
-        return songs;
+        List<Song> songs = search(SearchResultCache.Key.of(null, null, album),
+                () -> searchIndex.findContaining(SongField.ALBUM, album),
+                () -> songRepository.findByAlbumNormalizedContaining(TextNormalizer.normalize(album)));
+        return orNotFound(songs, () -> "No songs found for album: " + album);
     }
 
     public List<Song> searchSongs(String title, String artist, String album) {
@@ -108,18 +235,127 @@ public class SongService {
             throw new IllegalArgumentException("At least one search criteria must be provided");
         }
 
-        List<Song> songs = songRepository
-                .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                        normalizedTitle, normalizedArtist, normalizedAlbum);
+        List<Song> songs = search(SearchResultCache.Key.of(normalizedTitle, normalizedArtist, normalizedAlbum),
+                () -> searchIndex.findContaining(normalizedTitle, normalizedArtist, normalizedAlbum),
+                () -> songRepository
+                        .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                                TextNormalizer.normalize(normalizedTitle),
+                                TextNormalizer.normalize(normalizedArtist),
+                                TextNormalizer.normalize(normalizedAlbum)));
 
-        if (songs.isEmpty()) {
-            throw new SongNotFoundException(
-                    "No songs found matching title: " + normalizedTitle +
-                            ", artist: " + normalizedArtist +
-                            ", album: " + normalizedAlbum);
+        return orNotFound(songs, () -> "No songs found matching title: " + normalizedTitle +
+                ", artist: " + normalizedArtist +
+                ", album: " + normalizedAlbum);
+    }
+
+    public List<Song> searchSongsByPrefix(String field, String prefix, int limit) {
+        SongField songField = SongField.from(field);
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Prefix cannot be blank");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        String normalized = TextNormalizer.normalize(prefix.trim());
+        List<Song> songs = switch (songField) {
+            case TITLE -> songRepository.findByTitleNormalizedStartingWithOrderByTitleNormalizedAscIdAsc(
+                    normalized, Limit.of(limit));
+            case ARTIST -> songRepository.findByArtistNormalizedStartingWithOrderByArtistNormalizedAscIdAsc(
+                    normalized, Limit.of(limit));
+            case ALBUM -> songRepository.findByAlbumNormalizedStartingWithOrderByAlbumNormalizedAscIdAsc(
+                    normalized, Limit.of(limit));
+        };
+        return orNotFound(songs, () -> "No songs found with " + field + " starting with: " + prefix);
+    }
+
+    public List<Song> searchSongsRanked(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Query cannot be blank");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        if (!searchIndex.isReady()) {
+            throw new SearchIndexUnavailableException("Search index is not ready");
+        }
+        List<Long> ids = searchIndex.rank(query, limit);
+        List<Song> songs = findAllInOrder(ids.stream().mapToLong(Long::longValue).toArray());
+        return orNotFound(songs, () -> "No songs found matching: " + query);
+    }
+
+    public List<Suggestion> suggest(String field, String prefix, int limit) {
+        SongField songField = SongField.from(field);
+        if (prefix == null) {
+            throw new IllegalArgumentException("Prefix cannot be null");
+        }
+        if (limit < 1 || limit > suggester.maxResults()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + suggester.maxResults());
+        }
+        if (!suggester.isReady()) {
+            throw new SearchIndexUnavailableException("Suggestion index is not ready");
         }
+        return suggester.suggest(songField, prefix, limit);
+    }
 
+    private List<Song> orNotFound(List<Song> songs, Supplier<String> message) {
+        if (songs.isEmpty() && properties.getSearch().isEmptyAsNotFound()) {
+            throw SongNotFoundException.withoutStackTrace(message.get());
+        }
         return songs;
     }
 
+    private List<Song> search(SearchResultCache.Key key, Supplier<long[]> indexed, Supplier<List<Song>> fallback) {
+        long[] cached = searchResultCache.getIfPresent(key);
+        if (cached != null) {
+            return findAllInOrder(cached);
+        }
+        long generation = searchResultCache.generation();
+        if (searchIndex.isReady()) {
+            long[] ids = indexed.get();
+            searchResultCache.put(key, generation, ids);
+            return findAllInOrder(ids);
+        }
+        List<Song> songs = fallback.get();
+        searchResultCache.put(key, generation, songs.stream().mapToLong(Song::getId).toArray());
+        return songs;
+    }
+
+    private List<Song> findAllInOrder(long[] ids) {
+        Map<Long, Song> found = songCache.getAll(Arrays.stream(ids).boxed().toList(), this::findAllById);
+        List<Song> songs = new ArrayList<>(found.size());
+        for (long id : ids) {
+            Song song = found.get(id);
+            if (song != null) {
+                songs.add(song);
+            }
+        }
+        return songs;
+    }
+
+    private Map<Long, Song> findAllById(Set<? extends Long> ids) {
+        List<Long> pending = List.copyOf(ids);
+        Map<Long, Song> found = new HashMap<>();
+        for (int from = 0; from < pending.size(); from += ID_BATCH_SIZE) {
+            List<Long> batch = pending.subList(from, Math.min(from + ID_BATCH_SIZE, pending.size()));
+            for (Song song : songRepository.findAllById(batch)) {
+                found.put(song.getId(), song);
+            }
+        }
+        return found;
+    }
+
+    private static Song normalized(Song song) {
+        song.setTitleNormalized(TextNormalizer.normalize(song.getTitle()));
+        song.setArtistNormalized(TextNormalizer.normalize(song.getArtist()));
+        song.setAlbumNormalized(TextNormalizer.normalize(song.getAlbum()));
+        return song;
+    }
+
+    private Song published(Song saved) {
+        if (saved != null) {
+            eventPublisher.publishEvent(new SongSavedEvent(saved));
+        }
+        return saved;
+    }
+
 }
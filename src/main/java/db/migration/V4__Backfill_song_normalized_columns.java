@@ -0,0 +1,42 @@
+package db.migration;
+
+import com.musicplayer.search.TextNormalizer;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+public class V4__Backfill_song_normalized_columns extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement select = connection.createStatement();
+                PreparedStatement update = connection.prepareStatement("update song set title_normalized = ?, "
+                        + "artist_normalized = ?, album_normalized = ? where id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rows = select.executeQuery("select id, title, artist, album from song")) {
+                int pending = 0;
+                while (rows.next()) {
+                    update.setString(1, TextNormalizer.normalize(rows.getString("title")));
+                    update.setString(2, TextNormalizer.normalize(rows.getString("artist")));
+                    update.setString(3, TextNormalizer.normalize(rows.getString("album")));
+                    update.setLong(4, rows.getLong("id"));
+                    update.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        update.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                }
+            }
+        }
+    }
+}
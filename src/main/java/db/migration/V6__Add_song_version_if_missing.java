@@ -0,0 +1,36 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class V6__Add_song_version_if_missing extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!hasColumn(connection, "version")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("alter table song add column version bigint not null default 0");
+            }
+        }
+    }
+
+    private static boolean hasColumn(Connection connection, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("select * from song where 1 = 0")) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                if (column.equalsIgnoreCase(metaData.getColumnName(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+create table song (
+    id bigint not null auto_increment,
+    title varchar(255),
+    artist varchar(255),
+    album varchar(255),
+    duration int not null,
+    release_year int not null,
+    version bigint not null default 0,
+    primary key (id)
+);
@@ -0,0 +1,5 @@
+create index idx_song_title_id on song (title, id);
+create index idx_song_artist_id on song (artist, id);
+create index idx_song_album_id on song (album, id);
+create index idx_song_duration_id on song (duration, id);
+create index idx_song_release_year_id on song (release_year, id);
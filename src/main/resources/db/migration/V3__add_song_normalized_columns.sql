@@ -0,0 +1,7 @@
+alter table song add column title_normalized varchar(255);
+alter table song add column artist_normalized varchar(255);
+alter table song add column album_normalized varchar(255);
+
+create index idx_song_title_normalized_id on song (title_normalized, id);
+create index idx_song_artist_normalized_id on song (artist_normalized, id);
+create index idx_song_album_normalized_id on song (album_normalized, id);
@@ -0,0 +1,7 @@
+create table catalog_version (
+    id int not null,
+    version bigint not null,
+    primary key (id)
+);
+
+insert into catalog_version (id, version) values (1, 0);
@@ -33,6 +33,7 @@ CREATE TABLE song (
   duration int NOT NULL,
   release_year int NOT NULL,
   title varchar(255) DEFAULT NULL,
+  version bigint NOT NULL DEFAULT 0,
   PRIMARY KEY (id)
 ) ENGINE=InnoDB AUTO_INCREMENT=43 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -43,7 +44,7 @@ CREATE TABLE song (
 
 LOCK TABLES song WRITE;
 /*!40000 ALTER TABLE song DISABLE KEYS */;
-INSERT INTO song VALUES (1,'Eziokwu Deluxe','Odumodublvck',300,2023,'Dog Eat Dog II (Remix)'),(2,'Eziokwu','Odumodublvck',240,2023,'Dog Eat Dog II'),(3,'Made in Lagos','Wizkid',230,2020,'Essence'),(4,'Rave & Roses','Rema',210,2022,'Calm Down'),(5,'Love, Damini','Burna Boy',280,2022,'Last Last'),(6,'Mr. Money','Asake',200,2022,'Terminator'),(7,'Timeless','Davido',230,2023,'Unavailable'),(8,'19 & Dangerous','Ayra Starr',195,2023,'Rush'),(9,'Boy Alone','Omah Lay',225,2022,'Understand'),(10,'Gbagada Express','BOJ',220,2022,'Lekki Love'),(11,'Mr. Money','Asake',205,2022,'Sungba Remix'),(12,'Soweto','Victony',210,2023,'Soweto'),(13,'Young Preacher','Blaqbonez',200,2022,'Back in Uni'),(14,'Ku Lo Sa','Oxlade',190,2022,'Ku Lo Sá'),(15,'Barnabas','Kizz Daniel',210,2022,'Buga (É Kè)'),(16,'Amapiano Grooves','Kabza De Small',230,2021,'Abalele'),(17,'Jerusalema','Master KG',250,2020,'Jerusalema'),(18,'Tequila Ever After','Adekunle Gold',215,2023,'Party No Dey Stop'),(19,'Work of Art','Asake',225,2023,'Lonely @ the Top'),(20,'Love Damini','Burna Boy',210,2023,'Big 7'),(21,NULL,'Fela Kuti',620,1980,'Zombie'),(22,NULL,'Fela Kuti',750,1981,'Water No Get Enemy'),(23,NULL,'Fela Kuti',710,1977,'Gentleman'),(24,NULL,'Yemi Aladé',230,2019,'Shekere ft. Angélique Kidjo'),(25,NULL,'Sauti Sol',240,2020,'Suzanna'),(26,NULL,'Runtown & Nasty C',270,2018,'No Permission 2.0'),(27,NULL,'King Sunny Adé',360,1982,'Ja Funmi'),(28,'Utopia','Travis Scott',245,2023,'Meltdown (feat. Drake)'),(29,'Renaissance','Beyoncé',265,2022,'Cuff It'),(30,'SOS','SZA',255,2023,'Snooze'),(31,'Lover','Taylor Swift',235,2019,'Cruel Summer'),(32,'Scorpion','Drake',250,2018,'God\'s Plan'),(33,'÷ (Divide)','Ed Sheeran',260,2017,'Shape of You'),(34,'Planet Her','Doja Cat',220,2021,'Kiss Me More'),(35,'Charlie','Charlie Puth',210,2022,'Light Switch'),(36,'1X1','Sauti Sol x BNXN',200,2023,'My Baby'),(37,NULL,'Tiwa Savage',215,2018,'One Milli'),(38,NULL,'Wizkid & Tems',240,2021,'Mood'),(39,NULL,'CKay',230,2021,'Love Nwantiti (Ah Ah Ah)'),(40,NULL,'Burna Boy',215,2020,'Onyeka (Baby)'),(41,NULL,'DJ Maphorisa',300,2023,'Mnike'),(42,NULL,'Tyla',230,2023,'Water');
+INSERT INTO song VALUES (1,'Eziokwu Deluxe','Odumodublvck',300,2023,'Dog Eat Dog II (Remix)',0),(2,'Eziokwu','Odumodublvck',240,2023,'Dog Eat Dog II',0),(3,'Made in Lagos','Wizkid',230,2020,'Essence',0),(4,'Rave & Roses','Rema',210,2022,'Calm Down',0),(5,'Love, Damini','Burna Boy',280,2022,'Last Last',0),(6,'Mr. Money','Asake',200,2022,'Terminator',0),(7,'Timeless','Davido',230,2023,'Unavailable',0),(8,'19 & Dangerous','Ayra Starr',195,2023,'Rush',0),(9,'Boy Alone','Omah Lay',225,2022,'Understand',0),(10,'Gbagada Express','BOJ',220,2022,'Lekki Love',0),(11,'Mr. Money','Asake',205,2022,'Sungba Remix',0),(12,'Soweto','Victony',210,2023,'Soweto',0),(13,'Young Preacher','Blaqbonez',200,2022,'Back in Uni',0),(14,'Ku Lo Sa','Oxlade',190,2022,'Ku Lo Sá',0),(15,'Barnabas','Kizz Daniel',210,2022,'Buga (É Kè)',0),(16,'Amapiano Grooves','Kabza De Small',230,2021,'Abalele',0),(17,'Jerusalema','Master KG',250,2020,'Jerusalema',0),(18,'Tequila Ever After','Adekunle Gold',215,2023,'Party No Dey Stop',0),(19,'Work of Art','Asake',225,2023,'Lonely @ the Top',0),(20,'Love Damini','Burna Boy',210,2023,'Big 7',0),(21,NULL,'Fela Kuti',620,1980,'Zombie',0),(22,NULL,'Fela Kuti',750,1981,'Water No Get Enemy',0),(23,NULL,'Fela Kuti',710,1977,'Gentleman',0),(24,NULL,'Yemi Aladé',230,2019,'Shekere ft. Angélique Kidjo',0),(25,NULL,'Sauti Sol',240,2020,'Suzanna',0),(26,NULL,'Runtown & Nasty C',270,2018,'No Permission 2.0',0),(27,NULL,'King Sunny Adé',360,1982,'Ja Funmi',0),(28,'Utopia','Travis Scott',245,2023,'Meltdown (feat. Drake)',0),(29,'Renaissance','Beyoncé',265,2022,'Cuff It',0),(30,'SOS','SZA',255,2023,'Snooze',0),(31,'Lover','Taylor Swift',235,2019,'Cruel Summer',0),(32,'Scorpion','Drake',250,2018,'God\'s Plan',0),(33,'÷ (Divide)','Ed Sheeran',260,2017,'Shape of You',0),(34,'Planet Her','Doja Cat',220,2021,'Kiss Me More',0),(35,'Charlie','Charlie Puth',210,2022,'Light Switch',0),(36,'1X1','Sauti Sol x BNXN',200,2023,'My Baby',0),(37,NULL,'Tiwa Savage',215,2018,'One Milli',0),(38,NULL,'Wizkid & Tems',240,2021,'Mood',0),(39,NULL,'CKay',230,2021,'Love Nwantiti (Ah Ah Ah)',0),(40,NULL,'Burna Boy',215,2020,'Onyeka (Baby)',0),(41,NULL,'DJ Maphorisa',300,2023,'Mnike',0),(42,NULL,'Tyla',230,2023,'Water',0);
 /*!40000 ALTER TABLE song ENABLE KEYS */;
 UNLOCK TABLES;
 /*!40103 SET TIME_ZONE=@OLD_TIME_ZONE */;
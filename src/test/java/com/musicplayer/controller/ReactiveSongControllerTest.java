@@ -0,0 +1,206 @@
+package com.musicplayer.controller;
+
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.SongRepository;
+import com.musicplayer.service.SongService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "musicplayer.reactive.url=r2dbc:h2:mem:///testdb?options=DB_CLOSE_DELAY=-1",
+        "musicplayer.reactive.username=sa",
+        "musicplayer.reactive.password="
+})
+@ActiveProfiles({ "test", "reactive" })
+@DisplayName("Reactive Song Controller Tests")
+public class ReactiveSongControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private SongService songService;
+
+    private Song zombie;
+
+    @BeforeEach
+    void setUp() {
+        songRepository.deleteAll();
+        zombie = songService.saveSong(song("Zombie", "Fela Kuti", null, 1980));
+        songService.saveSong(song("Last Last", "Burna Boy", "Love, Damini", 2022));
+        songService.saveSong(song("Water", "Tyla", null, 2023));
+    }
+
+    private static Song song(String title, String artist, String album, int releaseYear) {
+        Song song = new Song();
+        song.setTitle(title);
+        song.setArtist(artist);
+        song.setAlbum(album);
+        song.setDuration(240);
+        song.setReleaseYear(releaseYear);
+        return song;
+    }
+
+    @Test
+    @DisplayName("Should list all songs as a JSON array")
+    void testGetAllSongs() {
+        webTestClient.get().uri("/songs")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].title").isEqualTo("Zombie");
+    }
+
+    @Test
+    @DisplayName("Should stream all songs as NDJSON")
+    void testStreamAllSongs() {
+        List<Song> songs = webTestClient.get().uri("/songs")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Song.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("Zombie", "Last Last", "Water"), songs.stream().map(Song::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Should return a song by ID or 404")
+    void testGetSongById() {
+        webTestClient.get().uri("/songs/{id}", zombie.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.artist").isEqualTo("Fela Kuti");
+
+        webTestClient.get().uri("/songs/{id}", 999_999)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Song with ID 999999 not found")
+                .jsonPath("$.path").isEqualTo("/songs/999999");
+    }
+
+    @Test
+    @DisplayName("Should page songs sorted by release year")
+    void testPaginatedSongs() {
+        webTestClient.get().uri("/songs/paginated?page=0&size=2&sortBy=releaseYear&direction=desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].title").isEqualTo("Water")
+                .jsonPath("$.content[1].title").isEqualTo("Last Last")
+                .jsonPath("$.totalElements").isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should serve count=estimated from a cached row count")
+    void testPaginatedSongs_EstimatedCount() {
+        webTestClient.get().uri("/songs/paginated?size=1&count=estimated")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(3);
+
+        songService.saveSong(song("Calm Down", "Rema", null, 2022));
+
+        webTestClient.get().uri("/songs/paginated?size=1&count=estimated")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.totalElements").isEqualTo(3);
+        webTestClient.get().uri("/songs/paginated?size=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should search with the servlet semantics for missing albums and untrimmed terms")
+    void testSearch_MatchesServletSemantics() {
+        webTestClient.get().uri("/songs/search?title=a")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Last Last");
+
+        webTestClient.get().uri("/songs/search/title?title={title}", " water")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported sort fields")
+    void testPaginatedSongs_InvalidSort() {
+        webTestClient.get().uri("/songs/paginated?sortBy=password")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Sorting is not supported for sortBy: password");
+    }
+
+    @Test
+    @DisplayName("Should search ignoring case and accents and return 404 when nothing matches")
+    void testSearch() {
+        webTestClient.get().uri("/songs/search?artist=burna")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].title").isEqualTo("Last Last");
+
+        webTestClient.get().uri("/songs/search/title?title={title}", "LÂST")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].title").isEqualTo("Last Last");
+
+        webTestClient.get().uri("/songs/search/title?title=100%")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("No songs found with title: 100%");
+    }
+
+    @Test
+    @DisplayName("Should return ranked results in index order")
+    void testRankedSearch() {
+        webTestClient.get().uri("/songs/search/ranked?q=water")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].title").isEqualTo("Water");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for blank search criteria")
+    void testSearch_Blank() {
+        webTestClient.get().uri("/songs/search")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("At least one search criteria must be provided");
+    }
+}
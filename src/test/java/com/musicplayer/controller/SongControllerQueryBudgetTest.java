@@ -0,0 +1,225 @@
+package com.musicplayer.controller;
+
+import com.musicplayer.metrics.QueryStats;
+import com.musicplayer.model.Song;
+import com.musicplayer.service.SongService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.musicplayer.metrics.QueryCountMatchers.statements;
+import static com.musicplayer.metrics.QueryCountMatchers.statementsAtMost;
+import static com.musicplayer.metrics.QueryCountMatchers.stats;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "musicplayer.search.empty-as-not-found=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Song Controller Query Budget Tests")
+public class SongControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SongService songService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Song song;
+
+    @BeforeEach
+    void setUp() {
+        song = songService.saveSong(song("Budget Anthem", "Tems"));
+        songService.saveSong(song("Budget Ballad", "Tems"));
+    }
+
+    private static Song song(String title, String artist) {
+        Song song = new Song();
+        song.setTitle(title);
+        song.setArtist(artist);
+        song.setDuration(240);
+        song.setReleaseYear(2024);
+        return song;
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should read a song with one statement and serve repeats from the cache")
+        void testGetSongById() throws Exception {
+            mockMvc.perform(get("/songs/" + song.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(statementsAtMost(1));
+            mockMvc.perform(get("/songs/" + song.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(0));
+        }
+
+        @Test
+        @DisplayName("Should answer unchanged conditional reads without statements")
+        void testConditionalGet() throws Exception {
+            String etag = mockMvc.perform(get("/songs/paginated"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/songs/paginated").header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(statements(0));
+
+            songService.saveSong(song("Budget Encore", "Tems"));
+            mockMvc.perform(get("/songs/paginated").header("If-None-Match", etag))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Should page with at most a data query and a count query")
+        void testPaginated() throws Exception {
+            mockMvc.perform(get("/songs/paginated?page=1&size=1"))
+                    .andExpect(status().isOk())
+                    .andExpect(statementsAtMost(2));
+            mockMvc.perform(get("/songs/paginated?count=none"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1));
+        }
+
+        @Test
+        @DisplayName("Should page by cursor with one statement unless a total is requested")
+        void testCursor() throws Exception {
+            mockMvc.perform(get("/songs/cursor"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1));
+            mockMvc.perform(get("/songs/cursor?includeTotal=true"))
+                    .andExpect(status().isOk())
+                    .andExpect(statementsAtMost(2));
+        }
+
+        @Test
+        @DisplayName("Should select only the requested columns")
+        void testSelectedFields() throws Exception {
+            MvcResult result = mockMvc.perform(get("/songs/paginated?count=none&fields=title"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1))
+                    .andReturn();
+
+            String sql = stats(result).statements().get(0);
+            assertTrue(sql.contains("title"));
+            assertFalse(sql.contains("artist"));
+            assertFalse(sql.contains("album"));
+        }
+
+        @Test
+        @DisplayName("Should search with at most one statement")
+        void testSearch() throws Exception {
+            mockMvc.perform(get("/songs/search?title=budget"))
+                    .andExpect(status().isOk())
+                    .andExpect(statementsAtMost(1));
+            mockMvc.perform(get("/songs/search/ranked?q=budget"))
+                    .andExpect(status().isOk())
+                    .andExpect(statementsAtMost(1));
+            mockMvc.perform(get("/songs/search/prefix?prefix=budget"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Writes")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should create a song with a single insert")
+        void testCreate() throws Exception {
+            mockMvc.perform(post("/songs")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"Free Mind\",\"artist\":\"Tems\",\"duration\":200,\"releaseYear\":2024}"))
+                    .andExpect(status().isCreated())
+                    .andExpect(statements(1));
+        }
+
+        @Test
+        @DisplayName("Should update a song with one select and one update")
+        void testUpdate() throws Exception {
+            mockMvc.perform(put("/songs/" + song.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"Budget Anthem\",\"artist\":\"Tems\",\"duration\":250,\"releaseYear\":2024}"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(2));
+        }
+
+        @Test
+        @DisplayName("Should patch a song with one select and one update")
+        void testPatch() throws Exception {
+            mockMvc.perform(patch("/songs/" + song.getId())
+                    .contentType("application/merge-patch+json")
+                    .content("{\"duration\":260}"))
+                    .andExpect(status().isOk())
+                    .andExpect(statements(2));
+        }
+
+        @Test
+        @DisplayName("Should delete a song with a single statement")
+        void testDelete() throws Exception {
+            mockMvc.perform(delete("/songs/" + song.getId()))
+                    .andExpect(status().isNoContent())
+                    .andExpect(statements(1));
+            mockMvc.perform(delete("/songs/" + song.getId()))
+                    .andExpect(status().isNotFound())
+                    .andExpect(statements(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should keep the SQL of each statement")
+        void testStatementsRecorded() throws Exception {
+            MvcResult result = mockMvc.perform(delete("/songs/" + song.getId())).andReturn();
+
+            QueryStats recorded = stats(result);
+            assertEquals(1, recorded.statements().size());
+            assertTrue(recorded.statements().get(0).startsWith("delete from song"));
+        }
+
+        @Test
+        @DisplayName("Should count statements per endpoint")
+        void testStatementsMetric() throws Exception {
+            mockMvc.perform(get("/songs/cursor")).andExpect(status().isOk());
+
+            assertTrue(meterRegistry.get("musicplayer.request.statements")
+                    .tags("method", "GET", "uri", "/songs/cursor").summary().count() >= 1);
+        }
+
+        @Test
+        @DisplayName("Should keep regular reads within their statement budgets")
+        void testWithinBudget() throws Exception {
+            double before = exceeded();
+
+            mockMvc.perform(get("/songs/paginated?page=1&size=1&count=estimated"))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/songs")).andExpect(status().isOk());
+
+            assertEquals(before, exceeded());
+        }
+
+        private double exceeded() {
+            return meterRegistry.find("musicplayer.request.budget.exceeded").tag("budget", "statements")
+                    .counters().stream().mapToDouble(counter -> counter.count()).sum();
+        }
+    }
+}
@@ -1,26 +1,61 @@
 package com.musicplayer.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.BulkDeleteRequest;
+import com.musicplayer.dto.BulkImportResult;
+import com.musicplayer.dto.BulkUpdateRequest;
+import com.musicplayer.dto.BulkWriteResult;
+import com.musicplayer.dto.SongChanges;
+import com.musicplayer.dto.SongFilter;
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import com.musicplayer.dto.CursorPage;
+import com.musicplayer.dto.Suggestion;
+import com.musicplayer.dto.ImportJobStatus;
+import com.musicplayer.exception.ImportJobNotFoundException;
+import com.musicplayer.exception.SearchIndexUnavailableException;
+import com.musicplayer.importer.SongImportJob;
+import com.musicplayer.importer.SongImportPipeline;
 import com.musicplayer.exception.SongNotFoundException;
 import com.musicplayer.model.Song;
+import com.musicplayer.service.SongBulkService;
+import com.musicplayer.service.SongImportService;
 import com.musicplayer.service.SongService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -28,6 +63,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.hamcrest.Matchers.containsString;
 
 @WebMvcTest(SongController.class)
+@Import(SimpleMeterRegistry.class)
+@EnableConfigurationProperties(MusicPlayerProperties.class)
 public class SongControllerTest {
 
     @Autowired
@@ -36,11 +73,24 @@ public class SongControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private SongService songService;
 
+    @MockBean
+    private SongImportService songImportService;
+
+    @MockBean
+    private SongImportPipeline songImportPipeline;
+
+    @MockBean
+    private SongBulkService songBulkService;
+
     private Song song;
     private List<Song> multipleSongs;
+    private List<SongView> multipleViews;
 
     @BeforeEach
     void setUp() {
@@ -61,6 +111,9 @@ public class SongControllerTest {
         song2.setReleaseYear(2023);
 
         multipleSongs = Arrays.asList(song, song2);
+        multipleViews = Arrays.asList(
+                new SongView(1L, "Dog Eat Dog II", "Odumodublvck", "Eziokwu", 240, 2023, 0L),
+                new SongView(2L, "Declan Rice", "Odumodublvck", "Eziokwu", 200, 2023, 0L));
     }
 
     @Nested
@@ -70,7 +123,7 @@ public class SongControllerTest {
         @Test
         @DisplayName("Should return all songs when no pagination parameters")
         void testGetAllSongs() throws Exception {
-            when(songService.getAllSongs()).thenReturn(multipleSongs);
+            when(songService.getAllSongs(SongFields.ALL)).thenReturn(multipleViews);
 
             mockMvc.perform(get("/songs"))
                     .andExpect(status().isOk())
@@ -80,14 +133,30 @@ public class SongControllerTest {
                     .andExpect(jsonPath("$[1].title").value("Declan Rice"))
                     .andExpect(jsonPath("$[1].artist").value("Odumodublvck"));
 
-            verify(songService, times(1)).getAllSongs();
+            verify(songService, times(1)).getAllSongs(SongFields.ALL);
+        }
+
+        @Test
+        @DisplayName("Should serialize listed songs with the same fields as a single song")
+        void testGetAllSongs_SameFieldsAsSong() throws Exception {
+            when(songService.getAllSongs(SongFields.ALL)).thenReturn(multipleViews);
+
+            mockMvc.perform(get("/songs"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(1))
+                    .andExpect(jsonPath("$[0].album").value("Eziokwu"))
+                    .andExpect(jsonPath("$[0].duration").value(240))
+                    .andExpect(jsonPath("$[0].releaseYear").value(2023))
+                    .andExpect(jsonPath("$[0].version").value(0))
+                    .andExpect(jsonPath("$[0].releaseYearValid").value(true))
+                    .andExpect(jsonPath("$[0].length()").value(8));
         }
 
         @Test
         @DisplayName("Should return paginated songs when pagination parameters provided")
         void testGetSongsWithPagination() throws Exception {
-            Page<Song> page = new PageImpl<>(multipleSongs);
-            when(songService.getSongs(anyInt(), anyInt(), anyString(), anyString())).thenReturn(page);
+            Page<SongView> page = new PageImpl<>(multipleViews);
+            when(songService.getSongs(anyInt(), anyInt(), anyString(), anyString(), any(SongFields.class))).thenReturn(page);
 
             mockMvc.perform(get("/songs/paginated")
                     .param("page", "0")
@@ -100,19 +169,151 @@ public class SongControllerTest {
                     .andExpect(jsonPath("$.content[1].title").value("Declan Rice"))
                     .andExpect(jsonPath("$.totalElements").value(2));
 
-            verify(songService, times(1)).getSongs(0, 10, "title", "asc");
+            verify(songService, times(1)).getSongs(0, 10, "title", "asc", SongFields.ALL);
+        }
+
+        @Test
+        @DisplayName("Should return a slice without total when count=none")
+        void testGetSongsWithoutCount() throws Exception {
+            when(songService.getSongSlice(0, 2, "title", "asc", SongFields.ALL))
+                    .thenReturn(new SliceImpl<>(multipleViews, PageRequest.of(0, 2), true));
+
+            mockMvc.perform(get("/songs/paginated")
+                    .param("size", "2")
+                    .param("count", "none"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.last").value(false))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(songService, times(1)).getSongSlice(0, 2, "title", "asc", SongFields.ALL);
+            verify(songService, never()).getSongs(anyInt(), anyInt(), anyString(), anyString(), any(SongFields.class));
+        }
+
+        @Test
+        @DisplayName("Should return an estimated total when count=estimated")
+        void testGetSongsWithEstimatedCount() throws Exception {
+            when(songService.getSongsWithEstimatedTotal(0, 10, "title", "asc", SongFields.ALL))
+                    .thenReturn(new PageImpl<>(multipleViews, PageRequest.of(0, 10), 2));
+
+            mockMvc.perform(get("/songs/paginated").param("count", "ESTIMATED"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(2));
+
+            verify(songService, times(1)).getSongsWithEstimatedTotal(0, 10, "title", "asc", SongFields.ALL);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown count mode")
+        void testGetSongsWithInvalidCountMode() throws Exception {
+            mockMvc.perform(get("/songs/paginated").param("count", "sometimes"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Count mode must be one of: exact, none, estimated"));
+
+            verifyNoInteractions(songService);
         }
 
         @Test
         @DisplayName("Should return empty list when no songs exist")
         void testGetAllSongs_Empty() throws Exception {
-            when(songService.getAllSongs()).thenReturn(Collections.emptyList());
+            when(songService.getAllSongs(SongFields.ALL)).thenReturn(Collections.emptyList());
 
             mockMvc.perform(get("/songs"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.length()").value(0));
 
-            verify(songService, times(1)).getAllSongs();
+            verify(songService, times(1)).getAllSongs(SongFields.ALL);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /songs/cursor - Keyset pagination")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("Should return content and next cursor without a total by default")
+        void testGetSongsByCursor() throws Exception {
+            when(songService.getSongsAfter(null, 10, "title", "asc", false))
+                    .thenReturn(new CursorPage<>(multipleViews, "abc", true, null));
+
+            mockMvc.perform(get("/songs/cursor"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.nextCursor").value("abc"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+            verify(songService, times(1)).getSongsAfter(null, 10, "title", "asc", false);
+        }
+
+        @Test
+        @DisplayName("Should pass cursor and total flag through to the service")
+        void testGetSongsByCursor_WithCursorAndTotal() throws Exception {
+            when(songService.getSongsAfter("abc", 5, "artist", "desc", true))
+                    .thenReturn(new CursorPage<>(Collections.emptyList(), null, false, 2L));
+
+            mockMvc.perform(get("/songs/cursor")
+                    .param("cursor", "abc")
+                    .param("size", "5")
+                    .param("sortBy", "artist")
+                    .param("direction", "desc")
+                    .param("includeTotal", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                    .andExpect(jsonPath("$.totalElements").value(2));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid cursor")
+        void testGetSongsByCursor_InvalidCursor() throws Exception {
+            when(songService.getSongsAfter(eq("bad"), anyInt(), anyString(), anyString(), anyBoolean()))
+                    .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+            mockMvc.perform(get("/songs/cursor").param("cursor", "bad"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /songs/stream - Stream songs as NDJSON")
+    class StreamSongsTests {
+
+        @Test
+        @DisplayName("Should write one JSON document per line")
+        void testStreamAllSongs() throws Exception {
+            doAnswer(invocation -> {
+                Consumer<Song> consumer = invocation.getArgument(0);
+                multipleSongs.forEach(consumer);
+                return null;
+            }).when(songService).streamAllSongs(any());
+
+            MvcResult result = mockMvc.perform(get("/songs/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String expected = objectMapper.writeValueAsString(song) + "\n"
+                    + objectMapper.writeValueAsString(multipleSongs.get(1)) + "\n";
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string(expected));
+
+            verify(songService, times(1)).streamAllSongs(any());
+        }
+
+        @Test
+        @DisplayName("Should return an empty body when no songs exist")
+        void testStreamAllSongs_Empty() throws Exception {
+            MvcResult result = mockMvc.perform(get("/songs/stream"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(""));
         }
     }
 
@@ -149,6 +350,19 @@ public class SongControllerTest {
             verify(songService, times(1)).getSongById(999L);
         }
 
+        @Test
+        @DisplayName("Should keep the error body shape without validation errors")
+        void testGetSongById_NotFoundBody() throws Exception {
+            when(songService.getSongById(999L)).thenThrow(new SongNotFoundException("Song with ID 999 not found"));
+
+            mockMvc.perform(get("/songs/999"))
+                    .andExpect(jsonPath("$.timestamp").exists())
+                    .andExpect(jsonPath("$.status").value(404))
+                    .andExpect(jsonPath("$.error").value("Not Found"))
+                    .andExpect(jsonPath("$.path").value("/songs/999"))
+                    .andExpect(jsonPath("$.errors").doesNotExist());
+        }
+
         @Test
         @DisplayName("Should return 400 when invalid ID format provided")
         void testGetSongById_InvalidId() throws Exception {
@@ -335,6 +549,72 @@ public class SongControllerTest {
 
     }
 
+    @Nested
+    @DisplayName("PATCH /songs/{id} - Merge patch song")
+    class PatchSongTests {
+
+        private static final MediaType MERGE_PATCH_JSON = MediaType.parseMediaType("application/merge-patch+json");
+
+        @Test
+        @DisplayName("Should apply a merge patch and return the song")
+        void testPatchSong_Success() throws Exception {
+            song.setDuration(250);
+            when(songService.patchSong(eq(1L), any(JsonNode.class))).thenReturn(song);
+
+            mockMvc.perform(patch("/songs/1")
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"duration\": 250, \"album\": null}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.duration").value(250));
+
+            verify(songService).patchSong(1L, objectMapper.readTree("{\"duration\": 250, \"album\": null}"));
+        }
+
+        @Test
+        @DisplayName("Should return 409 when the song was modified concurrently")
+        void testPatchSong_Conflict() throws Exception {
+            when(songService.patchSong(eq(1L), any(JsonNode.class)))
+                    .thenThrow(new OptimisticLockingFailureException("Song with ID 1 was modified by another request"));
+
+            mockMvc.perform(patch("/songs/1")
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"version\": 0, \"title\": \"Other\"}"))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error").value("Conflict"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 with field errors when the patched song is invalid")
+        void testPatchSong_ValidationFailed() throws Exception {
+            Song invalid = new Song();
+            invalid.setArtist("Odumodublvck");
+            invalid.setDuration(240);
+            invalid.setReleaseYear(2023);
+            when(songService.patchSong(eq(1L), any(JsonNode.class)))
+                    .thenThrow(new ConstraintViolationException(
+                            Validation.buildDefaultValidatorFactory().getValidator().validate(invalid)));
+
+            mockMvc.perform(patch("/songs/1")
+                    .contentType(MERGE_PATCH_JSON)
+                    .content("{\"title\": null}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Validation Failed"))
+                    .andExpect(jsonPath("$.errors.title").value("Song title is required"));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when patching non-existent song")
+        void testPatchSong_NotFound() throws Exception {
+            when(songService.patchSong(eq(999L), any(JsonNode.class)))
+                    .thenThrow(new SongNotFoundException("Song with ID 999 not found"));
+
+            mockMvc.perform(patch("/songs/999")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"duration\": 250}"))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /songs/{id} - Delete song")
     class DeleteSongTests {
@@ -453,6 +733,146 @@ public class SongControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Field selection")
+    class FieldSelectionTests {
+
+        @Test
+        @DisplayName("GET /songs - Should pass the selected fields down and serialize only those")
+        void testGetAllSongs_SelectedFields() throws Exception {
+            SongFields fields = SongFields.parse("title,artist");
+            when(songService.getAllSongs(fields)).thenReturn(multipleViews);
+
+            mockMvc.perform(get("/songs").param("fields", "title,artist"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].length()").value(3))
+                    .andExpect(jsonPath("$[0].id").value(1))
+                    .andExpect(jsonPath("$[0].title").value("Dog Eat Dog II"))
+                    .andExpect(jsonPath("$[0].artist").value("Odumodublvck"))
+                    .andExpect(jsonPath("$[0].album").doesNotExist());
+
+            verify(songService, times(1)).getAllSongs(fields);
+        }
+
+        @Test
+        @DisplayName("GET /songs/paginated - Should keep paging metadata while trimming songs")
+        void testPaginated_SelectedFields() throws Exception {
+            SongFields fields = SongFields.parse("title");
+            when(songService.getSongSlice(0, 10, "title", "asc", fields))
+                    .thenReturn(new SliceImpl<>(multipleViews, PageRequest.of(0, 10), false));
+
+            mockMvc.perform(get("/songs/paginated").param("count", "none").param("fields", "title"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[1].length()").value(2))
+                    .andExpect(jsonPath("$.content[1].title").value("Declan Rice"))
+                    .andExpect(jsonPath("$.last").value(true));
+        }
+
+        @Test
+        @DisplayName("GET /songs/search - Should trim search results to the selected fields")
+        void testSearch_SelectedFields() throws Exception {
+            when(songService.searchSongs("Dog", "", "")).thenReturn(Collections.singletonList(song));
+
+            mockMvc.perform(get("/songs/search").param("title", "Dog").param("fields", "title, releaseYear"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].length()").value(3))
+                    .andExpect(jsonPath("$[0].releaseYear").value(2023))
+                    .andExpect(jsonPath("$[0].artist").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown field")
+        void testUnknownField() throws Exception {
+            mockMvc.perform(get("/songs").param("fields", "title,lyrics"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message")
+                            .value("Fields must be any of: id, title, artist, album, duration, releaseYear, version"));
+
+            verifyNoInteractions(songService);
+
+            mockMvc.perform(get("/songs/search").param("title", "Dog").param("fields", "lyrics"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(songService);
+        }
+
+        @Test
+        @DisplayName("Should ignore the parameter on endpoints that do not declare it")
+        void testFieldsIgnoredWhereUndeclared() throws Exception {
+            when(songService.getSongById(1L)).thenReturn(song);
+            when(songService.searchSongsByTitle("Dog")).thenReturn(Collections.singletonList(song));
+
+            mockMvc.perform(get("/songs/1").param("fields", "bogus"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.artist").value("Odumodublvck"));
+            mockMvc.perform(get("/songs/search/title").param("title", "Dog").param("fields", "bogus"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].artist").value("Odumodublvck"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional GET")
+    class ConditionalGetTests {
+
+        @Test
+        @DisplayName("GET /songs/{id} - Should tag the song with its version")
+        void testGetSongById_ETag() throws Exception {
+            song.setVersion(3L);
+            when(songService.getSongById(1L)).thenReturn(song);
+
+            mockMvc.perform(get("/songs/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"3\""))
+                    .andExpect(jsonPath("$.version").value(3));
+        }
+
+        @Test
+        @DisplayName("GET /songs/{id} - Should answer 304 when the version is unchanged")
+        void testGetSongById_NotModified() throws Exception {
+            song.setVersion(3L);
+            when(songService.getSongById(1L)).thenReturn(song);
+
+            mockMvc.perform(get("/songs/1").header("If-None-Match", "\"3\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            mockMvc.perform(get("/songs/1").header("If-None-Match", "\"2\""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1));
+        }
+
+        @Test
+        @DisplayName("GET /songs - Should answer 304 without reading songs while the catalog is unchanged")
+        void testGetAllSongs_NotModified() throws Exception {
+            when(songService.catalogVersion()).thenReturn(7L);
+
+            mockMvc.perform(get("/songs").header("If-None-Match", "\"catalog-7\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"catalog-7\""));
+
+            verify(songService, never()).getAllSongs(any(SongFields.class));
+        }
+
+        @Test
+        @DisplayName("GET /songs/paginated - Should return the page when the catalog has changed")
+        void testPaginated_Modified() throws Exception {
+            when(songService.catalogVersion()).thenReturn(8L);
+            when(songService.getSongs(0, 10, "title", "asc", SongFields.ALL)).thenReturn(new PageImpl<>(multipleViews));
+
+            mockMvc.perform(get("/songs/paginated").header("If-None-Match", "\"catalog-7\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"catalog-8\""))
+                    .andExpect(jsonPath("$.content.length()").value(2));
+
+            when(songService.catalogVersion()).thenReturn(7L);
+            mockMvc.perform(get("/songs/paginated").header("If-None-Match", "\"catalog-7\""))
+                    .andExpect(status().isNotModified());
+
+            verify(songService, times(1)).getSongs(0, 10, "title", "asc", SongFields.ALL);
+        }
+    }
+
     @Nested
     @DisplayName("Error handling")
     class ErrorHandlingTests {
@@ -460,20 +880,291 @@ public class SongControllerTest {
         @Test
         @DisplayName("Should handle unexpected exceptions ")
         void testUnexpectedException() throws Exception {
-            when(songService.getAllSongs()).thenThrow(new RuntimeException("Unexpected error"));
+            when(songService.getAllSongs(SongFields.ALL)).thenThrow(new RuntimeException("Unexpected error"));
 
             mockMvc.perform(get("/songs"))
                     .andExpect(status().isInternalServerError())
                     .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
 
-            verify(songService, times(1)).getAllSongs();
+            verify(songService, times(1)).getAllSongs(SongFields.ALL);
         }
 
         @Test
         @DisplayName("Should handle method not allowed")
         void testMethodNotAllowed() throws Exception {
-            mockMvc.perform(patch("/songs/1"))
+            mockMvc.perform(post("/songs/1"))
                     .andExpect(status().isMethodNotAllowed());
         }
+
+        @Test
+        @DisplayName("Should handle unsupported media type")
+        void testUnsupportedMediaType() throws Exception {
+            mockMvc.perform(patch("/songs/1")
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .content("duration=250"))
+                    .andExpect(status().isUnsupportedMediaType())
+                    .andExpect(jsonPath("$.error").value("Unsupported Media Type"));
+        }
+
+        @Test
+        @DisplayName("Should count error responses by status and error")
+        void testErrorResponsesAreCounted() throws Exception {
+            when(songService.getSongById(999L)).thenThrow(new SongNotFoundException("Song with ID 999 not found"));
+            double before = meterRegistry.counter("musicplayer.errors", "status", "404", "error", "Not Found").count();
+
+            mockMvc.perform(get("/songs/999")).andExpect(status().isNotFound());
+            mockMvc.perform(get("/songs/999")).andExpect(status().isNotFound());
+
+            assertEquals(before + 2,
+                    meterRegistry.counter("musicplayer.errors", "status", "404", "error", "Not Found").count());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /songs/search/ranked - Ranked search")
+    class RankedSearchTests {
+
+        @Test
+        @DisplayName("Should return ranked songs")
+        void testSearchRanked() throws Exception {
+            when(songService.searchSongsRanked("dog", 20)).thenReturn(multipleSongs);
+
+            mockMvc.perform(get("/songs/search/ranked").param("q", "dog"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].title").value("Dog Eat Dog II"));
+
+            verify(songService, times(1)).searchSongsRanked("dog", 20);
+        }
+
+        @Test
+        @DisplayName("Should return 503 while the search index is being built")
+        void testSearchRanked_IndexNotReady() throws Exception {
+            when(songService.searchSongsRanked(anyString(), anyInt()))
+                    .thenThrow(new SearchIndexUnavailableException("Search index is not ready"));
+
+            mockMvc.perform(get("/songs/search/ranked").param("q", "dog").param("limit", "5"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.message").value("Search index is not ready"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /songs/search/prefix - Prefix search")
+    class PrefixSearchTests {
+
+        @Test
+        @DisplayName("Should return songs starting with the prefix without the normalized columns")
+        void testSearchByPrefix() throws Exception {
+            when(songService.searchSongsByPrefix("artist", "odu", 20)).thenReturn(multipleSongs);
+
+            mockMvc.perform(get("/songs/search/prefix").param("field", "artist").param("prefix", "odu"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].artistNormalized").doesNotExist());
+
+            verify(songService, times(1)).searchSongsByPrefix("artist", "odu", 20);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an invalid field")
+        void testSearchByPrefix_InvalidField() throws Exception {
+            when(songService.searchSongsByPrefix("year", "19", 20))
+                    .thenThrow(new IllegalArgumentException("Field must be one of: title, artist, album"));
+
+            mockMvc.perform(get("/songs/search/prefix").param("field", "year").param("prefix", "19"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Suggest Tests")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Should return suggestions for a prefix")
+        void testSuggest() throws Exception {
+            when(songService.suggest("artist", "bu", 10))
+                    .thenReturn(List.of(new Suggestion("Burna Boy", 2), new Suggestion("Buju", 1)));
+
+            mockMvc.perform(get("/songs/suggest").param("field", "artist").param("prefix", "bu"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].value").value("Burna Boy"))
+                    .andExpect(jsonPath("$[0].count").value(2));
+
+            verify(songService, times(1)).suggest("artist", "bu", 10);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unknown field")
+        void testSuggest_UnknownField() throws Exception {
+            when(songService.suggest(eq("genre"), anyString(), anyInt()))
+                    .thenThrow(new IllegalArgumentException("Field must be one of: title, artist, album"));
+
+            mockMvc.perform(get("/songs/suggest").param("field", "genre").param("prefix", "a"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Field must be one of: title, artist, album"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Import Tests")
+    class BulkImportTests {
+
+        private List<String> importedTitles;
+
+        @BeforeEach
+        void stubImport() {
+            importedTitles = new ArrayList<>();
+            when(songImportService.importSongs(any())).thenAnswer(invocation -> {
+                Iterator<Song> songs = invocation.getArgument(0);
+                songs.forEachRemaining(imported -> importedTitles.add(imported.getTitle()));
+                return new BulkImportResult(importedTitles.size(), importedTitles.size() - 1,
+                        List.of(new BulkImportResult.RowError(1, Map.of("title", "Song title is required"))));
+            });
+        }
+
+        @Test
+        @DisplayName("Should import a JSON array and report row errors")
+        void testImportJsonArray() throws Exception {
+            mockMvc.perform(post("/songs/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(multipleSongs)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.received").value(2))
+                    .andExpect(jsonPath("$.inserted").value(1))
+                    .andExpect(jsonPath("$.errors[0].row").value(1))
+                    .andExpect(jsonPath("$.errors[0].errors.title").value("Song title is required"));
+
+            assertEquals(List.of("Dog Eat Dog II", "Declan Rice"), importedTitles);
+        }
+
+        @Test
+        @DisplayName("Should import songs from an NDJSON stream")
+        void testImportNdjson() throws Exception {
+            String body = objectMapper.writeValueAsString(multipleSongs.get(0)) + "\n"
+                    + objectMapper.writeValueAsString(multipleSongs.get(1)) + "\n";
+
+            mockMvc.perform(post("/songs/bulk")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.received").value(2));
+
+            assertEquals(List.of("Dog Eat Dog II", "Declan Rice"), importedTitles);
+        }
+
+        @Test
+        @DisplayName("Should return 400 for a malformed NDJSON line")
+        void testImportNdjson_Malformed() throws Exception {
+            mockMvc.perform(post("/songs/bulk")
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .content("{\"title\": \"Zombie\"}\n{\"title\": \n"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid JSON on line 2"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Import Job Tests")
+    class ImportJobTests {
+
+        private final ImportJobStatus queued = new ImportJobStatus("job-1", "catalog.csv", "QUEUED", 0, 2048, 0, 0, 0,
+                0, null, null, null, List.of());
+
+        private SongImportJob job() {
+            SongImportJob job = mock(SongImportJob.class);
+            when(job.getId()).thenReturn("job-1");
+            when(job.status()).thenReturn(queued);
+            return job;
+        }
+
+        @Test
+        @DisplayName("Should accept an uploaded file and point to the job status")
+        void testImportUpload() throws Exception {
+            SongImportJob job = job();
+            when(songImportPipeline.submitUpload(any(), eq("csv"))).thenReturn(job);
+
+            mockMvc.perform(multipart("/songs/import")
+                    .file(new MockMultipartFile("file", "catalog.csv", "text/csv", "title\n".getBytes()))
+                    .param("format", "csv"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", "/songs/import/job-1"))
+                    .andExpect(jsonPath("$.status").value("QUEUED"))
+                    .andExpect(jsonPath("$.totalBytes").value(2048));
+        }
+
+        @Test
+        @DisplayName("Should accept a server-side path")
+        void testImportPath() throws Exception {
+            SongImportJob job = job();
+            when(songImportPipeline.submitPath("dumps/catalog.csv", null)).thenReturn(job);
+
+            mockMvc.perform(post("/songs/import").param("path", "dumps/catalog.csv"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.id").value("job-1"));
+        }
+
+        @Test
+        @DisplayName("Should return job progress and 404 for unknown jobs")
+        void testGetImportJob() throws Exception {
+            SongImportJob job = job();
+            when(songImportPipeline.getJob("job-1")).thenReturn(job);
+            when(songImportPipeline.getJob("missing"))
+                    .thenThrow(new ImportJobNotFoundException("Import job missing not found"));
+
+            mockMvc.perform(get("/songs/import/job-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.source").value("catalog.csv"));
+
+            mockMvc.perform(get("/songs/import/missing"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Import job missing not found"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Write Tests")
+    class BulkWriteTests {
+
+        @Test
+        @DisplayName("Should delete songs by filter and report the affected count")
+        void testBulkDelete() throws Exception {
+            when(songBulkService.deleteSongs(new BulkDeleteRequest(null, new SongFilter(null, "Fela", null))))
+                    .thenReturn(new BulkWriteResult(3));
+
+            mockMvc.perform(delete("/songs/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"filter\": {\"artist\": \"Fela\"}}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(3));
+        }
+
+        @Test
+        @DisplayName("Should update listed songs and report the affected count")
+        void testBulkUpdate() throws Exception {
+            when(songBulkService.updateSongs(new BulkUpdateRequest(List.of(1L, 2L), null,
+                    new SongChanges(null, null, "Deluxe", null, null)))).thenReturn(new BulkWriteResult(2));
+
+            mockMvc.perform(patch("/songs/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"ids\": [1, 2], \"set\": {\"album\": \"Deluxe\"}}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(2));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when neither ids nor a filter is given")
+        void testBulkDelete_NoTarget() throws Exception {
+            when(songBulkService.deleteSongs(any()))
+                    .thenThrow(new IllegalArgumentException("Either ids or a filter must be provided"));
+
+            mockMvc.perform(delete("/songs/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Either ids or a filter must be provided"));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.musicplayer.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicplayer.model.Song;
+import com.musicplayer.search.TextNormalizer;
+import com.musicplayer.service.SongService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static com.musicplayer.metrics.QueryCountMatchers.stats;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Song Query Plan Tests")
+public class SongQueryPlanTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SongService songService;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Song song = new Song();
+            song.setTitle("Plan " + i);
+            song.setArtist("Artist " + i);
+            song.setAlbum("Album " + i);
+            song.setDuration(200 + i);
+            song.setReleaseYear(2000 + i);
+            songService.saveSong(song);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "id", "title", "artist", "album", "duration", "releaseYear" })
+    @DisplayName("Should read each sortable page in index order")
+    void testPaginatedUsesIndex(String sortBy) throws Exception {
+        assertIndexOrder(query("/songs/paginated?count=none&size=2&sortBy=" + sortBy));
+        assertIndexOrder(query("/songs/paginated?count=none&size=2&fields=title&sortBy=" + sortBy));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "id", "title", "artist", "duration", "releaseYear" })
+    @DisplayName("Should seek each sortable cursor page through an index")
+    void testCursorUsesIndex(String sortBy) throws Exception {
+        MvcResult first = mockMvc.perform(get("/songs/cursor?size=1&sortBy=" + sortBy))
+                .andExpect(status().isOk())
+                .andReturn();
+        String cursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        assertIndexOrder(query("/songs/cursor?size=1&sortBy=" + sortBy + "&cursor=" + cursor));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "title, pla", "artist, ART", "album, Álb" })
+    @DisplayName("Should answer prefix searches with an index range scan")
+    void testPrefixSearchUsesIndex(String field, String prefix) throws Exception {
+        String plan = explain(query("/songs/search/prefix?field=" + field + "&prefix=" + prefix),
+                TextNormalizer.normalize(prefix) + "%");
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(plan.contains("IDX_SONG_" + field.toUpperCase() + "_NORMALIZED_ID"), plan);
+        assertTrue(plan.contains(">="), plan);
+    }
+
+    private String query(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn();
+        List<String> statements = stats(result).statements();
+        assertEquals(1, statements.size(), statements::toString);
+        return statements.get(0);
+    }
+
+    private void assertIndexOrder(String sql) {
+        String plan = explain(sql, 1);
+
+        assertFalse(plan.contains("tableScan"), plan);
+        assertTrue(plan.contains("/* index sorted */"), plan);
+    }
+
+    private String explain(String sql, Object first) {
+        return jdbcTemplate.query("explain " + sql, statement -> {
+            statement.setObject(1, first);
+            for (int i = 2; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                statement.setInt(i, 1);
+            }
+        }, (rs, row) -> rs.getString(1)).get(0);
+    }
+}
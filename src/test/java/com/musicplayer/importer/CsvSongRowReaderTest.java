@@ -0,0 +1,93 @@
+package com.musicplayer.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CSV Song Row Reader Tests")
+public class CsvSongRowReaderTest {
+
+    private static List<SongRow> readAll(String csv) throws IOException {
+        List<SongRow> rows = new ArrayList<>();
+        try (CsvSongRowReader reader = new CsvSongRowReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            SongRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Should map columns by header name, including the song table column names")
+    void whenHeaderMatchesSongTable_thenMapColumns() throws IOException {
+        List<SongRow> rows = readAll("""
+                id,album,artist,duration,release_year,title
+                7,Eziokwu,Odumodublvck,240,2023,Dog Eat Dog II
+                8,\\N,Fela Kuti,620,1980,Zombie
+                """);
+
+        assertEquals(2, rows.size());
+        assertEquals("Dog Eat Dog II", rows.get(0).song().getTitle());
+        assertEquals("Eziokwu", rows.get(0).song().getAlbum());
+        assertEquals(2023, rows.get(0).song().getReleaseYear());
+        assertNull(rows.get(0).song().getId());
+        assertNull(rows.get(1).song().getAlbum());
+        assertEquals(620, rows.get(1).song().getDuration());
+    }
+
+    @Test
+    @DisplayName("Should handle quoted fields, escaped quotes, embedded newlines and CRLF")
+    void whenFieldsQuoted_thenUnquote() throws IOException {
+        List<SongRow> rows = readAll("title,artist,album,duration,releaseYear\r\n"
+                + "\"Love, Damini\",\"Burna \"\"Odogwu\"\" Boy\",\"Line one\nLine two\",180,2022\r\n"
+                + "\r\n"
+                + "Last Last,Burna Boy,,172,2022");
+
+        assertEquals(2, rows.size());
+        assertEquals("Love, Damini", rows.get(0).song().getTitle());
+        assertEquals("Burna \"Odogwu\" Boy", rows.get(0).song().getArtist());
+        assertEquals("Line one\nLine two", rows.get(0).song().getAlbum());
+        assertNull(rows.get(1).song().getAlbum());
+        assertEquals(172, rows.get(1).song().getDuration());
+    }
+
+    @Test
+    @DisplayName("Should report non-numeric values as row errors")
+    void whenNumberInvalid_thenReportRowError() throws IOException {
+        List<SongRow> rows = readAll("""
+                title,artist,duration,release_year
+                Zombie,Fela Kuti,long,nineteen
+                """);
+
+        assertEquals(Map.of(
+                "duration", "Duration must be a number",
+                "releaseYear", "Release year must be a number"), rows.get(0).errors());
+    }
+
+    @Test
+    @DisplayName("Should reject files without the required columns")
+    void whenHeaderIncomplete_thenThrowException() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> readAll("title,artist\nZombie,Fela Kuti\n"));
+
+        assertEquals("CSV header must include title, artist, duration and release_year", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should fail on an unterminated quoted field")
+    void whenQuoteUnterminated_thenThrowIOException() {
+        assertThrows(IOException.class,
+                () -> readAll("title,artist,duration,release_year\n\"Zombie,Fela Kuti,620,1980\n"));
+    }
+}
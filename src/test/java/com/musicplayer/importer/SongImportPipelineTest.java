@@ -0,0 +1,197 @@
+package com.musicplayer.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.BulkImportResult;
+import com.musicplayer.dto.ImportJobStatus;
+import com.musicplayer.exception.ImportJobNotFoundException;
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.SongBatchRepository;
+import com.musicplayer.service.SongImportService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Song Import Pipeline Tests")
+public class SongImportPipelineTest {
+
+    @TempDir
+    Path importDirectory;
+
+    @Mock
+    private SongBatchRepository songBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SongImportPipeline pipeline;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        MusicPlayerProperties properties = new MusicPlayerProperties();
+        properties.getBulk().setBatchSize(3);
+        properties.getBulk().setWriterThreads(2);
+        properties.getBulk().setQueueCapacity(1);
+        properties.getBulk().setImportDirectory(importDirectory.toString());
+        SongImportService songImportService = new SongImportService(songBatchRepository,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, properties);
+        pipeline = new SongImportPipeline(songImportService, new ObjectMapper(), properties, false);
+
+        lenient().doAnswer(invocation -> {
+            List<Song> songs = invocation.getArgument(0);
+            songs.forEach(song -> song.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(songBatchRepository).insertAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    private static ImportJobStatus await(SongImportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.isFinished()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Import did not finish in time");
+            Thread.sleep(10);
+        }
+        return job.status();
+    }
+
+    @Test
+    @DisplayName("Should import a server-side CSV file in parallel batches and report row errors")
+    void whenCsvImported_thenInsertValidRows() throws Exception {
+        StringBuilder csv = new StringBuilder("title,artist,album,duration,release_year\n");
+        for (int i = 0; i < 10; i++) {
+            csv.append("Song ").append(i).append(",Artist,Album,200,2020\n");
+        }
+        csv.append(",Nameless,,200,2020\n");
+        csv.append("Ancient,Artist,,200,1500\n");
+        Files.writeString(importDirectory.resolve("catalog.csv"), csv);
+
+        ImportJobStatus status = await(pipeline.submitPath("catalog.csv", null));
+
+        assertEquals("COMPLETED", status.status());
+        assertEquals(12, status.rowsRead());
+        assertEquals(10, status.inserted());
+        assertEquals(2, status.failed());
+        assertEquals(status.totalBytes(), status.bytesRead());
+        assertEquals(List.of(
+                new BulkImportResult.RowError(10, Map.of("title", "Song title is required")),
+                new BulkImportResult.RowError(11, Map.of("releaseYear", "Release year cannot be before 1877"))),
+                status.errors());
+        verify(songBatchRepository, times(4)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should import an uploaded NDJSON file and remove the temporary copy")
+    void whenNdjsonUploaded_thenImport() throws Exception {
+        String ndjson = """
+                {"title":"Zombie","artist":"Fela Kuti","duration":620,"releaseYear":1980}
+                {"title":"Last Last","artist":"Burna Boy","album":"Love, Damini","duration":172,"releaseYear":2022}
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "catalog.ndjson", "application/x-ndjson",
+                ndjson.getBytes(StandardCharsets.UTF_8));
+
+        ImportJobStatus status = await(pipeline.submitUpload(file, null));
+
+        assertEquals("COMPLETED", status.status());
+        assertEquals(2, status.inserted());
+        assertSame(status.id(), pipeline.getJob(status.id()).getId());
+    }
+
+    @Test
+    @DisplayName("Should write batches on virtual threads when enabled")
+    void whenVirtualThreadsEnabled_thenWriteOnVirtualThreads() throws Exception {
+        MusicPlayerProperties properties = new MusicPlayerProperties();
+        properties.getBulk().setImportDirectory(importDirectory.toString());
+        SongImportService songImportService = new SongImportService(songBatchRepository,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, properties);
+        SongImportPipeline virtualPipeline = new SongImportPipeline(songImportService, new ObjectMapper(),
+                properties, true);
+        Set<Boolean> virtualWriters = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            virtualWriters.add(Thread.currentThread().isVirtual());
+            List<Song> songs = invocation.getArgument(0);
+            songs.forEach(song -> song.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(songBatchRepository).insertAll(anyList());
+        Files.writeString(importDirectory.resolve("catalog.csv"),
+                "title,artist,duration,release_year\nZombie,Fela Kuti,620,1980\n");
+
+        try {
+            ImportJobStatus status = await(virtualPipeline.submitPath("catalog.csv", null));
+
+            assertEquals("COMPLETED", status.status());
+            assertEquals(1, status.inserted());
+            assertEquals(Set.of(true), virtualWriters);
+        } finally {
+            virtualPipeline.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail the job on malformed NDJSON")
+    void whenNdjsonMalformed_thenFailJob() throws Exception {
+        Files.writeString(importDirectory.resolve("broken.jsonl"),
+                "{\"title\":\"Zombie\",\"artist\":\"Fela Kuti\",\"duration\":620,\"releaseYear\":1980}\n{\"title\":\n");
+
+        ImportJobStatus status = await(pipeline.submitPath("broken.jsonl", null));
+
+        assertEquals("FAILED", status.status());
+        assertEquals("Invalid JSON on line 2", status.failure());
+    }
+
+    @Test
+    @DisplayName("Should reject paths outside the import directory")
+    void whenPathEscapesDirectory_thenThrowException() throws IOException {
+        Files.writeString(importDirectory.resolveSibling("outside.csv"), "title\n");
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> pipeline.submitPath("../outside.csv", "csv"));
+
+        assertEquals("Import file not found: ../outside.csv", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown formats and unknown jobs")
+    void whenFormatOrJobUnknown_thenThrowException() throws IOException {
+        Files.writeString(importDirectory.resolve("catalog.xml"), "<songs/>");
+
+        assertThrows(IllegalArgumentException.class, () -> pipeline.submitPath("catalog.xml", null));
+        assertThrows(ImportJobNotFoundException.class, () -> pipeline.getJob("missing"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.musicplayer.metrics;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Query Budget Interceptor Tests")
+public class QueryBudgetInterceptorTest {
+
+    static class Handlers {
+
+        @StatementBudget(1)
+        public void single() {
+        }
+
+        public void unannotated() {
+        }
+    }
+
+    private SimpleMeterRegistry registry;
+    private QueryBudgetInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        MusicPlayerProperties properties = new MusicPlayerProperties();
+        properties.getQueryBudget().setMaxStatements(3);
+        properties.getQueryBudget().setMaxLatency(Duration.ofMinutes(1));
+        registry = new SimpleMeterRegistry();
+        interceptor = new QueryBudgetInterceptor(properties, registry);
+        request = new MockHttpServletRequest("GET", "/songs/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/songs/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.finish();
+    }
+
+    @Test
+    @DisplayName("Should record statements issued on the request thread")
+    void whenStatementsIssued_thenRecordThem() throws Exception {
+        Object handler = handler("single");
+        interceptor.preHandle(request, response, handler);
+        QueryStats.current().record("select 1", 2);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        QueryStats stats = (QueryStats) request.getAttribute(QueryBudgetInterceptor.STATS_ATTRIBUTE);
+        assertEquals(1, stats.count());
+        assertEquals(Duration.ofMillis(2), stats.elapsed());
+        assertNull(QueryStats.current());
+        assertEquals(1, registry.get("musicplayer.request.statements").tags("uri", "/songs/{id}").summary().count());
+    }
+
+    @Test
+    @DisplayName("Should flag handlers that exceed their annotated budget")
+    void whenOverAnnotatedBudget_thenCountExceeded() throws Exception {
+        Object handler = handler("single");
+        interceptor.preHandle(request, response, handler);
+        QueryStats.current().record("select 1", 0);
+        QueryStats.current().record("select 2", 0);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(1, registry.get("musicplayer.request.budget.exceeded")
+                .tags("uri", "/songs/{id}", "budget", "statements").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the configured budget")
+    void whenUnannotated_thenUseConfiguredBudget() throws Exception {
+        Object handler = handler("unannotated");
+        interceptor.preHandle(request, response, handler);
+        QueryStats.current().record("select 1", 0);
+        QueryStats.current().record("select 2", 0);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertNull(registry.find("musicplayer.request.budget.exceeded").counter());
+    }
+
+    @Test
+    @DisplayName("Should keep only the configured number of statements")
+    void whenManyStatements_thenRetainFirstOnes() {
+        QueryStats stats = new QueryStats(2);
+        stats.record("select 1", 0);
+        stats.record("select 2", 0);
+        stats.record("select 3", 0);
+
+        assertEquals(3, stats.count());
+        assertEquals(2, stats.statements().size());
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(name));
+    }
+}
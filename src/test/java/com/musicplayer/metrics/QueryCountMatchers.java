@@ -0,0 +1,46 @@
+package com.musicplayer.metrics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> {
+            QueryStats stats = stats(result);
+            if (stats.count() > max) {
+                fail("Expected at most " + max + " statements but " + stats.count() + " were issued:"
+                        + describe(stats));
+            }
+        };
+    }
+
+    public static ResultMatcher statements(int expected) {
+        return result -> {
+            QueryStats stats = stats(result);
+            if (stats.count() != expected) {
+                fail("Expected " + expected + " statements but " + stats.count() + " were issued:" + describe(stats));
+            }
+        };
+    }
+
+    public static QueryStats stats(MvcResult result) {
+        QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryBudgetInterceptor.STATS_ATTRIBUTE);
+        assertNotNull(stats, "No query stats recorded; is the request mapped under /songs?");
+        return stats;
+    }
+
+    private static String describe(QueryStats stats) {
+        StringBuilder description = new StringBuilder();
+        for (String sql : stats.statements()) {
+            description.append("\n    ").append(sql);
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.musicplayer.metrics;
+
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import com.musicplayer.exception.SongNotFoundException;
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.SongRepository;
+import com.musicplayer.service.SongService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Song Metrics Aspect Tests")
+public class SongMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private SongService songService;
+    private SongRepository songRepository;
+    private Song song;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        SongMetricsAspect aspect = new SongMetricsAspect(registry);
+
+        song = new Song();
+        song.setId(1L);
+        song.setTitle("Dog Eat Dog II");
+        song.setArtist("Odumodublvck");
+
+        SongService service = mock(SongService.class);
+        when(service.getSongById(1L)).thenReturn(song);
+        when(service.getSongById(2L)).thenThrow(new SongNotFoundException("Song with ID 2 not found"));
+        SongView view = new SongView(1L, "Dog Eat Dog II", "Odumodublvck", null, 240, 2023, 0L);
+        when(service.getSongs(0, 10, "title", "asc", SongFields.ALL)).thenReturn(new PageImpl<>(List.of(view, view), PageRequest.of(0, 10), 2));
+        songService = proxy(service, aspect, true);
+
+        SongRepository repository = mock(SongRepository.class);
+        when(repository.findByArtistNormalizedContaining("odu")).thenReturn(List.of(song, song, song));
+        when(repository.findById(3L)).thenReturn(Optional.empty());
+        songRepository = proxy(repository, aspect, false);
+    }
+
+    @Test
+    @DisplayName("Should time service calls by method and exception")
+    void whenServiceCalled_thenTimeByMethod() {
+        songService.getSongById(1L);
+        songService.getSongById(1L);
+        assertThrows(SongNotFoundException.class, () -> songService.getSongById(2L));
+
+        assertEquals(2, registry.get(SongMetricsAspect.SERVICE_TIMER)
+                .tags("method", "getSongById", "exception", "none").timer().count());
+        assertEquals(1, registry.get(SongMetricsAspect.SERVICE_TIMER)
+                .tags("method", "getSongById", "exception", "SongNotFoundException").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should record rows returned by service calls")
+    void whenServiceReturnsPage_thenRecordRows() {
+        songService.getSongs(0, 10, "title", "asc", SongFields.ALL);
+
+        assertEquals(2, registry.get(SongMetricsAspect.ROWS)
+                .tags("layer", "service", "method", "getSongs").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should time repository queries and record their rows")
+    void whenRepositoryQueried_thenTimeAndRecordRows() {
+        songRepository.findByArtistNormalizedContaining("odu");
+        songRepository.findById(3L);
+
+        assertEquals(1, registry.get(SongMetricsAspect.REPOSITORY_TIMER)
+                .tags("method", "findByArtistNormalizedContaining").timer().count());
+        assertEquals(3, registry.get(SongMetricsAspect.ROWS)
+                .tags("layer", "repository", "method", "findByArtistNormalizedContaining").summary().totalAmount());
+        assertEquals(0, registry.get(SongMetricsAspect.ROWS)
+                .tags("layer", "repository", "method", "findById").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should not record rows for results that are not collections or songs")
+    void whenResultHasNoRows_thenSkip() {
+        assertEquals(-1, SongMetricsAspect.rows(null));
+        assertEquals(-1, SongMetricsAspect.rows(5));
+        assertEquals(1, SongMetricsAspect.rows(song));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, SongMetricsAspect aspect, boolean proxyTargetClass) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(proxyTargetClass);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+}
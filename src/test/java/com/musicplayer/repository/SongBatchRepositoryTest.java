@@ -0,0 +1,112 @@
+package com.musicplayer.repository;
+
+import com.musicplayer.model.Song;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SongBatchRepository.class)
+@DisplayName("Song Batch Repository Tests")
+public class SongBatchRepositoryTest {
+
+    @Autowired
+    private SongBatchRepository songBatchRepository;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @BeforeEach
+    void setUp() {
+        songRepository.deleteAll();
+    }
+
+    private static Song song(String title, String album) {
+        Song song = new Song();
+        song.setTitle(title);
+        song.setArtist("Odumodublvck");
+        song.setAlbum(album);
+        song.setDuration(240);
+        song.setReleaseYear(2023);
+        return song;
+    }
+
+    @Test
+    @DisplayName("Should insert a batch and assign generated ids in order")
+    void whenInsertAll_thenAssignIds() {
+        List<Song> songs = List.of(song("Dog Eat Dog II", "Eziokwu"), song("Declan Rice", null));
+
+        songBatchRepository.insertAll(songs);
+
+        assertNotNull(songs.get(0).getId());
+        assertTrue(songs.get(1).getId() > songs.get(0).getId());
+        Song stored = songRepository.findById(songs.get(1).getId()).orElseThrow();
+        assertEquals("Declan Rice", stored.getTitle());
+        assertNull(stored.getAlbum());
+        assertEquals(2023, stored.getReleaseYear());
+        assertEquals(2, songRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should find ids by case-insensitive filter, treating wildcards literally")
+    void whenFilterGiven_thenFindMatchingIds() {
+        List<Song> songs = List.of(song("100% Love", "Eziokwu"), song("100 Love", "Eziokwu"),
+                song("Love_Song", null), song("Lovely", "Other"));
+        songBatchRepository.insertAll(songs);
+
+        assertEquals(List.of(songs.get(0).getId()), songBatchRepository.findIdsMatching("100%", null, null));
+        assertEquals(List.of(songs.get(2).getId()), songBatchRepository.findIdsMatching("e_s", " ", null));
+        assertEquals(List.of(songs.get(0).getId(), songs.get(1).getId()),
+                songBatchRepository.findIdsMatching("LOVE", "odumo", "ezi"));
+    }
+
+    @Test
+    @DisplayName("Should match the filter ignoring accents, like search")
+    void whenFilterUnaccented_thenMatchAccentedValues() {
+        Song accented = song("Déjà Vu", "Renaissance");
+        accented.setArtist("Beyoncé");
+        List<Song> songs = List.of(accented, song("Deja Vu", "Eziokwu"));
+        songBatchRepository.insertAll(songs);
+
+        assertEquals(List.of(accented.getId()), songBatchRepository.findIdsMatching(null, "beyonce", null));
+        assertEquals(List.of(accented.getId(), songs.get(1).getId()),
+                songBatchRepository.findIdsMatching("DÉJÀ", null, null));
+        assertEquals("beyonce", songRepository.findById(accented.getId()).orElseThrow().getArtistNormalized());
+    }
+
+    @Test
+    @DisplayName("Should delete and update sets of rows with set-based statements")
+    void whenBulkWrite_thenReportAffectedRows() {
+        List<Song> songs = List.of(song("Dog Eat Dog II", "Eziokwu"), song("Declan Rice", "Eziokwu"),
+                song("Zombie", null));
+        songBatchRepository.insertAll(songs);
+        Long first = songs.get(0).getId();
+        Long second = songs.get(1).getId();
+        Long third = songs.get(2).getId();
+
+        int updated = songBatchRepository.updateAll(List.of(first, second, 999L),
+                new LinkedHashMap<>(Map.of("album", "Deluxe", "release_year", 2024)));
+        int deleted = songBatchRepository.deleteAllById(List.of(third, 999L));
+
+        assertEquals(2, updated);
+        assertEquals(1, deleted);
+        Song stored = songRepository.findById(first).orElseThrow();
+        assertEquals("Deluxe", stored.getAlbum());
+        assertEquals(2024, stored.getReleaseYear());
+        assertEquals("Dog Eat Dog II", stored.getTitle());
+        assertFalse(songRepository.existsById(third));
+    }
+}
@@ -0,0 +1,119 @@
+package com.musicplayer.repository;
+
+import com.musicplayer.model.Song;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Song Delete Tests")
+public class SongDeleteTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private SongRepository songRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        songRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        songRepository.deleteAll();
+    }
+
+    private Long savedSongId() {
+        Song song = new Song();
+        song.setTitle("Dog Eat Dog II");
+        song.setArtist("Odumodublvck");
+        song.setAlbum("Eziokwu");
+        song.setDuration(240);
+        song.setReleaseYear(2023);
+        return songRepository.save(song).getId();
+    }
+
+    @Test
+    @DisplayName("Should report one affected row, then none")
+    void testDeleteReturnsAffectedRows() {
+        Long id = savedSongId();
+
+        assertEquals(1, songRepository.deleteSongById(id));
+        assertEquals(0, songRepository.deleteSongById(id));
+        assertTrue(songRepository.findById(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should delete with a single statement instead of three")
+    void testStatementCount() {
+        Long checked = savedSongId();
+        statistics.clear();
+        if (songRepository.existsById(checked)) {
+            songRepository.deleteById(checked);
+        }
+        long checkedStatements = statistics.getPrepareStatementCount();
+
+        Long direct = savedSongId();
+        statistics.clear();
+        songRepository.deleteSongById(direct);
+        long directStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(3, checkedStatements);
+        assertEquals(1, directStatements);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of many concurrent deletes succeed")
+    void testConcurrentDeletes() throws Exception {
+        Long id = savedSongId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return songRepository.deleteSongById(id);
+                }));
+            }
+            start.countDown();
+
+            int deleted = 0;
+            for (Future<Integer> result : results) {
+                deleted += result.get();
+            }
+            assertEquals(1, deleted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.musicplayer.repository;
 
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
 import com.musicplayer.model.Song;
+import com.musicplayer.search.TextNormalizer;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,10 +12,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,8 +61,15 @@ public class SongRepositoryTest {
         song2.setDuration(200);
         song2.setReleaseYear(2023);
 
-        song1 = songRepository.save(song1);
-        song2 = songRepository.save(song2);
+        song1 = songRepository.save(normalized(song1));
+        song2 = songRepository.save(normalized(song2));
+    }
+
+    private static Song normalized(Song song) {
+        song.setTitleNormalized(TextNormalizer.normalize(song.getTitle()));
+        song.setArtistNormalized(TextNormalizer.normalize(song.getArtist()));
+        song.setAlbumNormalized(TextNormalizer.normalize(song.getAlbum()));
+        return song;
     }
 
     @Nested
@@ -76,7 +99,7 @@ public class SongRepositoryTest {
         @Test
         @DisplayName("Should find songs by exact title")
         void testFindByExactTitle() {
-            List<Song> results = songRepository.findByTitleContainingIgnoreCase("Dog Eat Dog II");
+            List<Song> results = songRepository.findByTitleNormalizedContaining("dog eat dog ii");
             assertEquals(1, results.size());
             assertEquals("Dog Eat Dog II", results.get(0).getTitle());
         }
@@ -84,15 +107,29 @@ public class SongRepositoryTest {
         @Test
         @DisplayName("Should find songs by partial title")
         void testFindByPartialTitle() {
-            List<Song> results = songRepository.findByTitleContainingIgnoreCase("Dog");
+            List<Song> results = songRepository.findByTitleNormalizedContaining("dog");
             assertEquals(1, results.size());
             assertEquals("Dog Eat Dog II", results.get(0).getTitle());
         }
 
+        @Test
+        @DisplayName("Should match accented titles with an unaccented fragment")
+        void testFindByTitleIgnoringAccents() {
+            Song accented = new Song();
+            accented.setTitle("Café Déjà Vu");
+            accented.setArtist("Odumodublvck");
+            accented.setDuration(180);
+            accented.setReleaseYear(2023);
+            songRepository.save(normalized(accented));
+
+            List<Song> results = songRepository.findByTitleNormalizedContaining(TextNormalizer.normalize("DEJA"));
+            assertEquals(List.of("Café Déjà Vu"), results.stream().map(Song::getTitle).toList());
+        }
+
         @Test
         @DisplayName("Should return empty list when title not found")
         void testFindByTitle_NotFound() {
-            List<Song> results = songRepository.findByTitleContainingIgnoreCase("Unknown");
+            List<Song> results = songRepository.findByTitleNormalizedContaining("unknown");
             assertTrue(results.isEmpty());
         }
     }
@@ -104,21 +141,21 @@ public class SongRepositoryTest {
         @Test
         @DisplayName("Should find songs by exact artist")
         void testFindByExactArtist() {
-            List<Song> results = songRepository.findByArtistContainingIgnoreCase("Odumodublvck");
+            List<Song> results = songRepository.findByArtistNormalizedContaining("odumodublvck");
             assertEquals(2, results.size());
         }
 
         @Test
         @DisplayName("Should find songs by partial artist name")
         void testFindByPartialArtist() {
-            List<Song> results = songRepository.findByArtistContainingIgnoreCase("Odu");
+            List<Song> results = songRepository.findByArtistNormalizedContaining("odu");
             assertEquals(2, results.size());
         }
 
         @Test
         @DisplayName("Should return empty list when artist not found")
         void testFindByArtist_NotFound() {
-            List<Song> results = songRepository.findByArtistContainingIgnoreCase("Unknown");
+            List<Song> results = songRepository.findByArtistNormalizedContaining("unknown");
             assertTrue(results.isEmpty());
         }
     }
@@ -130,18 +167,49 @@ public class SongRepositoryTest {
         @Test
         @DisplayName("Should find songs by album")
         void testFindByAlbum() {
-            List<Song> results = songRepository.findByAlbumContainingIgnoreCase("Eziokwu");
+            List<Song> results = songRepository.findByAlbumNormalizedContaining("eziokwu");
             assertEquals(2, results.size());
         }
 
         @Test
         @DisplayName("Should return empty list when album not found")
         void testFindByAlbum_NotFound() {
-            List<Song> results = songRepository.findByAlbumContainingIgnoreCase("Unknown");
+            List<Song> results = songRepository.findByAlbumNormalizedContaining("unknown");
             assertTrue(results.isEmpty());
         }
     }
 
+    @Nested
+    @DisplayName("Find by Normalized Prefix Tests")
+    class FindByPrefixTests {
+
+        @Test
+        @DisplayName("Should find songs whose normalized title starts with the prefix in title order")
+        void testFindByTitlePrefix() {
+            List<Song> found = songRepository.findByTitleNormalizedStartingWithOrderByTitleNormalizedAscIdAsc(
+                    "d", Limit.of(10));
+            assertEquals(List.of("Declan Rice", "Dog Eat Dog II"), found.stream().map(Song::getTitle).toList());
+        }
+
+        @Test
+        @DisplayName("Should only match at the start of the value")
+        void testFindByArtistPrefix() {
+            assertEquals(1, songRepository.findByArtistNormalizedStartingWithOrderByArtistNormalizedAscIdAsc(
+                    "odumo", Limit.of(1)).size());
+            assertTrue(songRepository.findByAlbumNormalizedStartingWithOrderByAlbumNormalizedAscIdAsc(
+                    "okwu", Limit.of(10)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should treat wildcard characters in the prefix literally")
+        void testFindByPrefixEscapesWildcards() {
+            assertTrue(songRepository.findByTitleNormalizedStartingWithOrderByTitleNormalizedAscIdAsc(
+                    "%", Limit.of(10)).isEmpty());
+            assertTrue(songRepository.findByTitleNormalizedStartingWithOrderByTitleNormalizedAscIdAsc(
+                    "d_g", Limit.of(10)).isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("Find All Songs Tests")
     class FindAllSongsTests {
@@ -154,6 +222,75 @@ public class SongRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Stream All Songs Tests")
+    class StreamAllSongsTests {
+
+        @Test
+        @DisplayName("Should stream all songs ordered by ID")
+        void testStreamAll() {
+            List<Long> ids;
+            try (Stream<Song> songs = songRepository.streamAll()) {
+                ids = songs.map(Song::getId).collect(Collectors.toList());
+            }
+            assertEquals(List.of(song1.getId(), song2.getId()), ids);
+        }
+    }
+
+    @Nested
+    @DisplayName("Keyset Scroll Tests")
+    class KeysetScrollTests {
+
+        @Test
+        @DisplayName("Should return the first window with more songs pending")
+        void testFirstWindow() {
+            Window<SongView> window = songRepository.findBy(ScrollPosition.keyset(),
+                    Sort.by(Sort.Direction.ASC, "title", "id"), Limit.of(1));
+
+            assertEquals(1, window.size());
+            assertEquals("Declan Rice", window.getContent().get(0).title());
+            assertTrue(window.hasNext());
+        }
+
+        @Test
+        @DisplayName("Should seek past the last seen sort value and id")
+        void testSeekAfterPosition() {
+            ScrollPosition position = ScrollPosition.forward(
+                    Map.of("title", song2.getTitle(), "id", song2.getId()));
+
+            Window<SongView> window = songRepository.findBy(position,
+                    Sort.by(Sort.Direction.ASC, "title", "id"), Limit.of(1));
+
+            assertEquals(1, window.size());
+            assertEquals("Dog Eat Dog II", window.getContent().get(0).title());
+            assertFalse(window.hasNext());
+        }
+    }
+
+    @Nested
+    @DisplayName("Slice Tests")
+    class SliceTests {
+
+        @Test
+        @DisplayName("Should report a next slice without counting")
+        void testFindSlice() {
+            Slice<SongView> slice = songRepository.findSliceBy(PageRequest.of(0, 1, Sort.by("title")));
+
+            assertEquals(1, slice.getNumberOfElements());
+            assertEquals("Declan Rice", slice.getContent().get(0).title());
+            assertTrue(slice.hasNext());
+        }
+
+        @Test
+        @DisplayName("Should report the last slice")
+        void testFindLastSlice() {
+            Slice<SongView> slice = songRepository.findSliceBy(PageRequest.of(1, 1, Sort.by("title")));
+
+            assertEquals("Dog Eat Dog II", slice.getContent().get(0).title());
+            assertFalse(slice.hasNext());
+        }
+    }
+
     @Nested
     @DisplayName("Delete Song Tests")
     class DeleteSongTests {
@@ -173,6 +310,98 @@ public class SongRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Read Path Tests")
+    class ReadPathTests {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @BeforeEach
+        void clearContext() {
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should list songs as views without managing entities")
+        void testViewsAreNotManaged() {
+            List<SongView> views = songRepository.findAllBy();
+            Slice<SongView> page = songRepository.findPageBy(PageRequest.of(0, 1, Sort.by("title")));
+
+            assertEquals(2, views.size());
+            assertEquals("Declan Rice", page.getContent().get(0).title());
+            assertEquals(0L, page.getContent().get(0).version());
+            assertEquals(0, session().getStatistics().getEntityCount());
+        }
+
+        @Test
+        @DisplayName("Should load search results as read-only entities")
+        void testSearchResultsAreReadOnly() {
+            List<Song> results = songRepository.findByArtistNormalizedContaining("odumo");
+
+            assertEquals(2, results.size());
+            assertTrue(results.stream().allMatch(song -> session().isReadOnly(song)));
+        }
+
+        @Test
+        @DisplayName("Should select only the requested fields")
+        void testSelectedFields() {
+            SongFields fields = SongFields.parse("title");
+
+            Page<SongView> page = songRepository.findViewPage(fields, PageRequest.of(0, 1, Sort.by("title")));
+            Slice<SongView> last = songRepository.findViewSlice(fields, PageRequest.of(1, 1, Sort.by("title")));
+            List<SongView> all = songRepository.findViews(fields, Sort.by("id"));
+
+            assertEquals(2, page.getTotalElements());
+            assertEquals(new SongView(song2.getId(), "Declan Rice", null, null, 0, 0, null), page.getContent().get(0));
+            assertEquals("Dog Eat Dog II", last.getContent().get(0).title());
+            assertFalse(last.hasNext());
+            assertEquals(List.of(song1.getId(), song2.getId()), all.stream().map(SongView::id).toList());
+            assertEquals(0, session().getStatistics().getEntityCount());
+        }
+
+        private Session session() {
+            return entityManager.getEntityManager().unwrap(Session.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Optimistic Versioning Tests")
+    class VersioningTests {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Test
+        @DisplayName("Should start at version zero and increment on update")
+        void testVersionIncrementsOnUpdate() {
+            entityManager.flush();
+            assertEquals(0L, song1.getVersion());
+
+            song1.setDuration(250);
+            songRepository.saveAndFlush(song1);
+
+            assertEquals(1L, song1.getVersion());
+        }
+
+        @Test
+        @DisplayName("Should reject saving a stale copy")
+        void testStaleCopyRejected() {
+            entityManager.flush();
+            entityManager.clear();
+            Song stale = songRepository.findById(song1.getId()).orElseThrow();
+            entityManager.detach(stale);
+
+            Song current = songRepository.findById(song1.getId()).orElseThrow();
+            current.setTitle("Dog Eat Dog III");
+            songRepository.saveAndFlush(current);
+
+            stale.setDuration(999);
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> songRepository.saveAndFlush(stale));
+        }
+    }
+
     @Nested
     @DisplayName("Combined Search Tests")
     class CombinedSearchTests {
@@ -181,8 +410,8 @@ public class SongRepositoryTest {
         @DisplayName("Should find songs by title, artist and album")
         void testCombinedSearch() {
             List<Song> results = songRepository
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            "Dog", "Odumodublvck", "Eziokwu");
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            "dog", "odumodublvck", "eziokwu");
             assertEquals(1, results.size());
             assertEquals("Dog Eat Dog II", results.get(0).getTitle());
         }
@@ -191,8 +420,8 @@ public class SongRepositoryTest {
         @DisplayName("Should return empty when no combined match")
         void testCombinedSearch_NotFound() {
             List<Song> results = songRepository
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            "Unknown", "Artist", "Album");
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            "unknown", "artist", "album");
             assertTrue(results.isEmpty());
         }
     }
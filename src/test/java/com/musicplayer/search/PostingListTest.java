@@ -0,0 +1,54 @@
+package com.musicplayer.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Posting List Tests")
+public class PostingListTest {
+
+    private PostingList of(long... ids) {
+        PostingList list = new PostingList();
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Test
+    @DisplayName("Should keep ids sorted and unique regardless of insertion order")
+    void whenAddingOutOfOrder_thenSortedAndUnique() {
+        PostingList list = of(5, 1, 9, 5, 3, 1);
+
+        assertArrayEquals(new long[] { 1, 3, 5, 9 }, list.toArray());
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    @DisplayName("Should remove ids and report whether they were present")
+    void whenRemoving_thenIdIsGone() {
+        PostingList list = of(1, 2, 3);
+
+        assertTrue(list.remove(2));
+        assertFalse(list.remove(2));
+        assertArrayEquals(new long[] { 1, 3 }, list.toArray());
+    }
+
+    @Test
+    @DisplayName("Should intersect sorted id arrays")
+    void whenIntersecting_thenReturnCommonIds() {
+        assertArrayEquals(new long[] { 2, 7 },
+                PostingList.intersect(new long[] { 1, 2, 4, 7 }, new long[] { 2, 3, 7, 8 }));
+        assertArrayEquals(new long[0], PostingList.intersect(new long[] { 1 }, new long[0]));
+    }
+
+    @Test
+    @DisplayName("Should union posting lists without duplicates")
+    void whenUnion_thenReturnSortedDistinctIds() {
+        assertArrayEquals(new long[] { 1, 2, 3, 4 }, PostingList.union(List.of(of(1, 3), of(2, 3, 4))));
+        assertArrayEquals(new long[0], PostingList.union(List.of()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.musicplayer.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Prefix Trie Tests")
+public class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    private static List<String> values(List<PrefixTrie.Completion> completions) {
+        return completions.stream().map(PrefixTrie.Completion::value).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie(3);
+    }
+
+    @Test
+    @DisplayName("Should complete prefixes that end inside a compressed edge")
+    void whenPrefixEndsMidLabel_thenComplete() {
+        trie.increment("burna boy", "Burna Boy");
+        trie.increment("bojo", "Bojo");
+        trie.increment("boj", "BOJ");
+
+        assertEquals(List.of("BOJ", "Bojo", "Burna Boy"), values(trie.complete("b", 10)));
+        assertEquals(List.of("BOJ", "Bojo"), values(trie.complete("bo", 10)));
+        assertEquals(List.of("Burna Boy"), values(trie.complete("burn", 10)));
+        assertEquals(List.of(), values(trie.complete("bx", 10)));
+        assertEquals(List.of(), values(trie.complete("burna boys", 10)));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    @DisplayName("Should order completions by count and keep the first display value")
+    void whenIncrementingRepeatedly_thenOrderByCount() {
+        trie.increment("ckay", "CKay");
+        trie.increment("cruel santino", "Cruel Santino");
+        assertEquals("CKay", trie.increment("ckay", "CKAY"));
+
+        List<PrefixTrie.Completion> completions = trie.complete("c", 10);
+
+        assertEquals(new PrefixTrie.Completion("CKay", 2), completions.get(0));
+        assertEquals(new PrefixTrie.Completion("Cruel Santino", 1), completions.get(1));
+    }
+
+    @Test
+    @DisplayName("Should keep only the top K completions at each node")
+    void whenMoreValuesThanK_thenKeepTopK() {
+        trie.increment("a", "a");
+        trie.increment("ab", "ab");
+        trie.increment("abc", "abc");
+        trie.increment("abd", "abd");
+        trie.increment("abd", "abd");
+
+        assertEquals(List.of("abd", "a", "ab"), values(trie.complete("", 10)));
+        assertEquals(List.of("abd"), values(trie.complete("a", 1)));
+    }
+
+    @Test
+    @DisplayName("Should drop values whose count reaches zero and merge the remaining edges")
+    void whenDecrementingToZero_thenRemoveValue() {
+        trie.increment("fela kuti", "Fela Kuti");
+        trie.increment("femi kuti", "Femi Kuti");
+        trie.increment("femi kuti", "Femi Kuti");
+
+        trie.decrement("fela kuti");
+        trie.decrement("femi kuti");
+
+        assertEquals(List.of(new PrefixTrie.Completion("Femi Kuti", 1)), trie.complete("f", 10));
+        assertEquals(1, trie.size());
+
+        trie.decrement("femi kuti");
+        trie.decrement("unknown");
+
+        assertEquals(List.of(), trie.complete("", 10));
+        assertEquals(0, trie.size());
+
+        trie.increment("fela", "Fela");
+        assertEquals(List.of("Fela"), values(trie.complete("fe", 10)));
+    }
+}
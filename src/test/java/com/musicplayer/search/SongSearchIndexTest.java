@@ -0,0 +1,221 @@
+package com.musicplayer.search;
+
+import com.musicplayer.dto.SongChanges;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.model.Song;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Song Search Index Tests")
+public class SongSearchIndexTest {
+
+    private SongSearchIndex index;
+
+    private static Song song(long id, String title, String artist, String album) {
+        Song song = new Song();
+        song.setId(id);
+        song.setTitle(title);
+        song.setArtist(artist);
+        song.setAlbum(album);
+        song.setDuration(200);
+        song.setReleaseYear(2022);
+        return song;
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new SongSearchIndex();
+        List<Song> songs = List.of(
+                song(1, "Dog Eat Dog II", "Odumodublvck", "Eziokwu"),
+                song(2, "Lekki Love", "BOJ", "Gbagada Express"),
+                song(3, "Last Last", "Burna Boy", "Love, Damini"),
+                song(4, "Zombie", "Fela Kuti", null),
+                song(5, "Love Nwantiti (Ah Ah Ah)", "CKay", null));
+        index.rebuild(consumer -> songs.forEach(consumer));
+    }
+
+    @Nested
+    @DisplayName("Containing Search Tests")
+    class ContainingSearchTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "ove, '2,5'",
+                "LOVE, '2,5'",
+                "dog eat, '1'",
+                "g e, '1'",
+                "(ah, '5'",
+                "st l, '3'",
+                "ov, '2,5'",
+                "z, '4'",
+                "unknown, ''"
+        })
+        @DisplayName("Should match titles with case-insensitive infix semantics")
+        void whenSearchingTitle_thenMatchInfix(String query, String expectedIds) {
+            assertArrayEquals(ids(expectedIds), index.findContaining(SongField.TITLE, query));
+        }
+
+        @Test
+        @DisplayName("Should verify trigram candidates against the full fragment")
+        void whenTrigramsMatchOutOfOrder_thenVerifyRejects() {
+            SongSearchIndex scrambled = new SongSearchIndex();
+            scrambled.index(song(9, "abcd bcab", "Artist", "Album"));
+
+            assertArrayEquals(new long[0], scrambled.findContaining(SongField.TITLE, "abcab"));
+            assertArrayEquals(new long[] { 9 }, scrambled.findContaining(SongField.TITLE, "bcab"));
+        }
+
+        @Test
+        @DisplayName("Should fold accents on both the indexed text and the query")
+        void whenTextHasAccents_thenMatchUnaccented() {
+            SongSearchIndex accented = new SongSearchIndex();
+            accented.index(song(9, "Pérez Prado", "Beyoncé", "Déjà Vu"));
+
+            assertArrayEquals(new long[] { 9 }, accented.findContaining(SongField.TITLE, "perez"));
+            assertArrayEquals(new long[] { 9 }, accented.findContaining(SongField.ARTIST, "BEYONCÉ"));
+            assertArrayEquals(new long[] { 9 }, accented.findContaining(SongField.ALBUM, "deja"));
+        }
+
+        @Test
+        @DisplayName("Should match queries made only of separators by scanning")
+        void whenQueryHasNoTokens_thenScanDocuments() {
+            assertArrayEquals(new long[] { 3 }, index.findContaining(SongField.ALBUM, ", "));
+        }
+
+        @Test
+        @DisplayName("Should require every criterion to match in combined search")
+        void whenCombinedSearch_thenAllCriteriaMustMatch() {
+            assertArrayEquals(new long[] { 3 }, index.findContaining("last", "burna", "love"));
+            assertArrayEquals(new long[0], index.findContaining("last", "boj", ""));
+        }
+
+        @Test
+        @DisplayName("Should exclude songs without an album from combined search, like the SQL finder")
+        void whenAlbumIsNull_thenCombinedSearchExcludesSong() {
+            assertArrayEquals(new long[0], index.findContaining("zombie", "", ""));
+            assertArrayEquals(new long[] { 4 }, index.findContaining(SongField.TITLE, "zombie"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ranked Search Tests")
+    class RankedSearchTests {
+
+        @Test
+        @DisplayName("Should rank title matches above album matches")
+        void whenWordInTitleAndAlbum_thenTitleRanksFirst() {
+            assertEquals(List.of(2L, 5L, 3L), index.rank("love", 10));
+        }
+
+        @Test
+        @DisplayName("Should reward songs matching more query words across fields")
+        void whenMultipleWords_thenMoreMatchesRankHigher() {
+            assertEquals(3L, index.rank("last burna", 10).get(0));
+        }
+
+        @Test
+        @DisplayName("Should complete the last word as a prefix")
+        void whenLastWordIsPartial_thenMatchPrefix() {
+            assertEquals(List.of(4L), index.rank("zomb", 10));
+        }
+
+        @Test
+        @DisplayName("Should honour the limit")
+        void whenLimitSmallerThanMatches_thenTruncate() {
+            assertEquals(1, index.rank("love", 1).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Synchronisation Tests")
+    class SynchronisationTests {
+
+        @Test
+        @DisplayName("Should reindex a song when it is saved again")
+        void whenSongUpdated_thenOldTermsRemoved() {
+            index.onSongSaved(new SongSavedEvent(song(1, "Declan Rice", "Odumodublvck", "Eziokwu")));
+
+            assertArrayEquals(new long[0], index.findContaining(SongField.TITLE, "dog"));
+            assertArrayEquals(new long[] { 1 }, index.findContaining(SongField.TITLE, "rice"));
+        }
+
+        @Test
+        @DisplayName("Should drop a deleted song")
+        void whenSongDeleted_thenNoLongerFound() {
+            index.onSongDeleted(new SongDeletedEvent(2L));
+
+            assertArrayEquals(new long[] { 5 }, index.findContaining(SongField.TITLE, "love"));
+            assertEquals(4, index.size());
+        }
+
+        @Test
+        @DisplayName("Should apply a bulk update to the indexed text without reloading the songs")
+        void whenSongsUpdated_thenReindexChangedFields() {
+            index.onSongsUpdated(new SongsUpdatedEvent(List.of(1L, 4L), new SongChanges(null, "Fela", "Best Of", null, null)));
+
+            assertArrayEquals(new long[] { 1 }, index.findContaining(SongField.TITLE, "dog"));
+            assertArrayEquals(new long[] { 1, 4 }, index.findContaining(SongField.ALBUM, "best of"));
+            assertArrayEquals(new long[] { 1, 4 }, index.findContaining(SongField.ARTIST, "fela"));
+            assertArrayEquals(new long[0], index.findContaining(SongField.ARTIST, "odumodu"));
+        }
+
+        @Test
+        @DisplayName("Should apply bulk updates made while the index is being rebuilt to songs loaded later")
+        void whenUpdatedDuringRebuild_thenLoadedSongGetsChanges() {
+            SongSearchIndex rebuilding = new SongSearchIndex();
+            rebuilding.rebuild(consumer -> {
+                rebuilding.update(1L, new SongChanges("New Title", null, null, null, null));
+                consumer.accept(song(1, "Stale Title", "Artist", "Album"));
+            });
+
+            assertArrayEquals(new long[] { 1 }, rebuilding.findContaining(SongField.TITLE, "new"));
+            assertArrayEquals(new long[] { 1 }, rebuilding.findContaining(SongField.ARTIST, "artist"));
+            assertArrayEquals(new long[0], rebuilding.findContaining(SongField.TITLE, "stale"));
+        }
+
+        @Test
+        @DisplayName("Should keep writes made while the index is being rebuilt")
+        void whenWrittenDuringRebuild_thenLoadDoesNotOverwrite() {
+            SongSearchIndex rebuilding = new SongSearchIndex();
+            rebuilding.rebuild(consumer -> {
+                rebuilding.index(song(1, "New Title", "Artist", "Album"));
+                rebuilding.remove(2L);
+                consumer.accept(song(1, "Stale Title", "Artist", "Album"));
+                consumer.accept(song(2, "Deleted", "Artist", "Album"));
+            });
+
+            assertTrue(rebuilding.isReady());
+            assertArrayEquals(new long[] { 1 }, rebuilding.findContaining(SongField.TITLE, "new"));
+            assertArrayEquals(new long[0], rebuilding.findContaining(SongField.TITLE, "stale"));
+            assertArrayEquals(new long[0], rebuilding.findContaining(SongField.TITLE, "deleted"));
+        }
+
+        @Test
+        @DisplayName("Should not be ready until the first build completes")
+        void whenNotBuilt_thenNotReady() {
+            assertFalse(new SongSearchIndex().isReady());
+        }
+    }
+
+    private static long[] ids(String csv) {
+        if (csv.isEmpty()) {
+            return new long[0];
+        }
+        String[] parts = csv.split(",");
+        long[] ids = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            ids[i] = Long.parseLong(parts[i]);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,64 @@
+package com.musicplayer.search;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.Suggestion;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.model.Song;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Song Suggester Tests")
+public class SongSuggesterTest {
+
+    private SongSuggester suggester;
+
+    private static Song song(long id, String title, String artist, String album) {
+        Song song = new Song();
+        song.setId(id);
+        song.setTitle(title);
+        song.setArtist(artist);
+        song.setAlbum(album);
+        song.setDuration(200);
+        song.setReleaseYear(2022);
+        return song;
+    }
+
+    @BeforeEach
+    void setUp() {
+        suggester = new SongSuggester(new MusicPlayerProperties());
+        List<Song> songs = List.of(
+                song(1, "Last Last", "Burna Boy", "Love, Damini"),
+                song(2, "Lekki Love", "BOJ", "Gbagada Express"),
+                song(3, "Kilometre", "Burna Boy", "Love, Damini"),
+                song(4, "Love Nwantiti (Ah Ah Ah)", "CKay", null));
+        suggester.rebuild(consumer -> songs.forEach(consumer));
+    }
+
+    @Test
+    @DisplayName("Should suggest the most common values first, ignoring case")
+    void whenSuggesting_thenOrderByPopularity() {
+        assertTrue(suggester.isReady());
+        assertEquals(List.of(new Suggestion("Burna Boy", 2), new Suggestion("BOJ", 1)),
+                suggester.suggest(SongField.ARTIST, "B", 10));
+        assertEquals(List.of(new Suggestion("Love, Damini", 2)), suggester.suggest(SongField.ALBUM, "lo", 10));
+        assertEquals(List.of(new Suggestion("Last Last", 1)), suggester.suggest(SongField.TITLE, "l", 1));
+    }
+
+    @Test
+    @DisplayName("Should follow saved and deleted songs")
+    void whenSongsChange_thenUpdateSuggestions() {
+        Song renamed = song(2, "Lekki Love", "Bad Boy Timz", "Gbagada Express");
+        suggester.onSongSaved(new SongSavedEvent(renamed));
+        suggester.onSongDeleted(new SongDeletedEvent(3L));
+
+        assertEquals(List.of(new Suggestion("Bad Boy Timz", 1), new Suggestion("Burna Boy", 1)),
+                suggester.suggest(SongField.ARTIST, "b", 10));
+        assertEquals(List.of(new Suggestion("Love, Damini", 1)), suggester.suggest(SongField.ALBUM, "love", 10));
+    }
+}
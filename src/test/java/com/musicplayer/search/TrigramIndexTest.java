@@ -0,0 +1,52 @@
+package com.musicplayer.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Trigram Index Tests")
+public class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.add(1, "lekki love");
+        index.add(2, "love nwantiti (ah ah ah)");
+        index.add(3, "last last");
+    }
+
+    @Test
+    @DisplayName("Should return documents containing every trigram of the fragment")
+    void whenFragmentPresent_thenReturnCandidates() {
+        assertArrayEquals(new long[] { 1, 2 }, index.candidates("ove"));
+        assertArrayEquals(new long[] { 1 }, index.candidates("ki lo"));
+        assertArrayEquals(new long[] { 3 }, index.candidates("t la"));
+    }
+
+    @Test
+    @DisplayName("Should return no candidates when any trigram is unknown")
+    void whenTrigramUnknown_thenReturnEmpty() {
+        assertArrayEquals(new long[0], index.candidates("lovx"));
+    }
+
+    @Test
+    @DisplayName("Should not narrow fragments shorter than a trigram")
+    void whenFragmentTooShort_thenReturnNull() {
+        assertNull(index.candidates("lo"));
+    }
+
+    @Test
+    @DisplayName("Should drop trigrams that no longer have postings")
+    void whenRemoved_thenTrigramsReleased() {
+        int before = index.gramCount();
+
+        index.remove(3, "last last");
+
+        assertArrayEquals(new long[0], index.candidates("ast"));
+        assertTrue(index.gramCount() < before);
+    }
+}
@@ -0,0 +1,92 @@
+package com.musicplayer.service;
+
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.CatalogVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CatalogVersion.class, CatalogVersionRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Catalog Version Tests")
+public class CatalogVersionTest {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should bump the version on every kind of catalog change")
+    void whenCatalogChanges_thenBumpVersion() {
+        long initial = catalogVersion.get();
+
+        eventPublisher.publishEvent(new SongSavedEvent(new Song()));
+        eventPublisher.publishEvent(new SongDeletedEvent(1L));
+        eventPublisher.publishEvent(new SongsSavedEvent(List.of()));
+        eventPublisher.publishEvent(new SongsDeletedEvent(List.of(2L)));
+
+        assertEquals(initial + 4, catalogVersion.get());
+    }
+
+    @Test
+    @DisplayName("Should bump the version only after the publishing transaction commits")
+    void whenPublishedInTransaction_thenBumpAfterCommit() {
+        long initial = catalogVersion.get();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new SongSavedEvent(new Song()));
+            assertEquals(initial, catalogVersion.get());
+        });
+
+        assertEquals(initial + 1, catalogVersion.get());
+    }
+
+    @Test
+    @DisplayName("Should keep the version when the publishing transaction rolls back")
+    void whenTransactionRollsBack_thenKeepVersion() {
+        long initial = catalogVersion.get();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new SongSavedEvent(new Song()));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(initial, catalogVersion.get());
+    }
+
+    @Test
+    @DisplayName("Should start every instance from its own range of versions")
+    void whenAnotherInstanceStarts_thenVersionsDoNotOverlap() {
+        CatalogVersion otherInstance = new CatalogVersion(new CatalogVersionRepository(jdbcTemplate));
+
+        assertTrue(otherInstance.get() - catalogVersion.get() > Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,174 @@
+package com.musicplayer.service;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.SongChanges;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.model.Song;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Search Result Cache Tests")
+public class SearchResultCacheTest {
+
+    private final SearchResultCache.Key loveKey = SearchResultCache.Key.of("LOVE", null, null);
+    private final SearchResultCache.Key zombieKey = SearchResultCache.Key.of("zombie", "", "");
+
+    private SearchResultCache cache;
+
+    private static Song song(long id, String title, String artist, String album) {
+        Song song = new Song();
+        song.setId(id);
+        song.setTitle(title);
+        song.setArtist(artist);
+        song.setAlbum(album);
+        return song;
+    }
+
+    @BeforeEach
+    void setUp() {
+        cache = new SearchResultCache(new MusicPlayerProperties());
+        cache.put(loveKey, cache.generation(), new long[] { 2, 5 });
+        cache.put(zombieKey, cache.generation(), new long[0]);
+    }
+
+    @Test
+    @DisplayName("Should key on lowercased criteria and cache empty results")
+    void whenCached_thenReturnIds() {
+        assertArrayEquals(new long[] { 2, 5 }, cache.getIfPresent(SearchResultCache.Key.of("love", null, null)));
+        assertArrayEquals(new long[0], cache.getIfPresent(SearchResultCache.Key.of("Zombie", "", "")));
+        assertNull(cache.getIfPresent(SearchResultCache.Key.of("love", "", "")));
+    }
+
+    @Test
+    @DisplayName("Should keep entries that a saved song cannot affect")
+    void whenUnrelatedSongSaved_thenKeepEntries() {
+        cache.onSongSaved(new SongSavedEvent(song(9, "Last Last", "Burna Boy", "Love, Damini")));
+
+        assertNotNull(cache.getIfPresent(loveKey));
+        assertNotNull(cache.getIfPresent(zombieKey));
+    }
+
+    @Test
+    @DisplayName("Should evict entries that match the saved song or contained it before")
+    void whenRelatedSongSaved_thenEvictEntries() {
+        cache.onSongSaved(new SongSavedEvent(song(5, "Nwantiti", "CKay", null)));
+        cache.onSongSaved(new SongSavedEvent(song(21, "Zombie", "Fela Kuti", "Zombie")));
+
+        assertNull(cache.getIfPresent(loveKey));
+        assertNull(cache.getIfPresent(zombieKey));
+    }
+
+    @Test
+    @DisplayName("Should fold accents in keys and evict unaccented entries when an accented song is saved")
+    void whenAccentedSongSaved_thenEvictUnaccentedEntries() {
+        SearchResultCache.Key cafeKey = SearchResultCache.Key.of("cafe", null, null);
+        cache.put(cafeKey, cache.generation(), new long[0]);
+
+        assertArrayEquals(new long[0], cache.getIfPresent(SearchResultCache.Key.of("CAFÉ", null, null)));
+
+        cache.onSongSaved(new SongSavedEvent(song(40, "Café Song", "Nobody", null)));
+
+        assertNull(cache.getIfPresent(cafeKey));
+        assertNotNull(cache.getIfPresent(loveKey));
+    }
+
+    @Test
+    @DisplayName("Should evict entries containing a deleted song")
+    void whenSongDeleted_thenEvictEntriesContainingIt() {
+        cache.onSongDeleted(new SongDeletedEvent(2L));
+
+        assertNull(cache.getIfPresent(loveKey));
+        assertNotNull(cache.getIfPresent(zombieKey));
+    }
+
+    @Test
+    @DisplayName("Should drop results computed before a concurrent write")
+    void whenWriteDuringLoad_thenDiscardResult() {
+        SearchResultCache.Key key = SearchResultCache.Key.of("dog", null, null);
+        long generation = cache.generation();
+
+        cache.onSongDeleted(new SongDeletedEvent(99L));
+        cache.put(key, generation, new long[] { 1 });
+
+        assertNull(cache.getIfPresent(key));
+    }
+
+    @Test
+    @DisplayName("Should never keep results stored while a concurrent write invalidates")
+    void whenPutRacesInvalidation_thenDiscardResult() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 500; i++) {
+                String title = "Race " + i;
+                SearchResultCache.Key key = SearchResultCache.Key.of(title, null, null);
+                long generation = cache.generation();
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> put = executor.submit(() -> {
+                    barrier.await();
+                    cache.put(key, generation, new long[] { 1 });
+                    return null;
+                });
+                Future<?> write = executor.submit(() -> {
+                    barrier.await();
+                    cache.onSongSaved(new SongSavedEvent(song(40, title, "Nobody", null)));
+                    return null;
+                });
+                put.get();
+                write.get();
+
+                assertNull(cache.getIfPresent(key));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop every entry after a bulk import")
+    void whenSongsSaved_thenEvictAll() {
+        cache.onSongsSaved(new SongsSavedEvent(List.of(song(30, "Unrelated", "Nobody", null))));
+
+        assertNull(cache.getIfPresent(loveKey));
+        assertNull(cache.getIfPresent(zombieKey));
+    }
+
+    @Test
+    @DisplayName("Should drop every entry when a bulk update changes searchable text")
+    void whenSongsUpdatedText_thenEvictAll() {
+        cache.onSongsUpdated(new SongsUpdatedEvent(List.of(30L), new SongChanges(null, null, "Deluxe", null, null)));
+
+        assertNull(cache.getIfPresent(loveKey));
+        assertNull(cache.getIfPresent(zombieKey));
+    }
+
+    @Test
+    @DisplayName("Should evict only entries containing the songs when a bulk update leaves the text alone")
+    void whenSongsUpdatedOtherColumns_thenEvictEntriesContainingThem() {
+        cache.onSongsUpdated(new SongsUpdatedEvent(List.of(5L), new SongChanges(null, null, null, 180, null)));
+
+        assertNull(cache.getIfPresent(loveKey));
+        assertNotNull(cache.getIfPresent(zombieKey));
+    }
+
+    @Test
+    @DisplayName("Should evict entries containing any song deleted in bulk")
+    void whenSongsDeleted_thenEvictEntriesContainingThem() {
+        cache.onSongsDeleted(new SongsDeletedEvent(List.of(7L, 5L)));
+
+        assertNull(cache.getIfPresent(loveKey));
+        assertNotNull(cache.getIfPresent(zombieKey));
+    }
+}
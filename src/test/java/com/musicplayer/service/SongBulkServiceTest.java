@@ -0,0 +1,152 @@
+package com.musicplayer.service;
+
+import com.musicplayer.dto.BulkDeleteRequest;
+import com.musicplayer.dto.BulkUpdateRequest;
+import com.musicplayer.dto.BulkWriteResult;
+import com.musicplayer.dto.SongChanges;
+import com.musicplayer.dto.SongFilter;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsUpdatedEvent;
+import com.musicplayer.repository.SongBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Song Bulk Service Tests")
+public class SongBulkServiceTest {
+
+    @Mock
+    private SongBatchRepository songBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SongBulkService songBulkService;
+
+    @BeforeEach
+    void setUp() {
+        songBulkService = new SongBulkService(songBatchRepository, new TransactionTemplate(transactionManager),
+                eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("Bulk Delete Tests")
+    class BulkDeleteTests {
+
+        @Test
+        @DisplayName("Should delete listed ids in one statement and evict them")
+        void whenIdsGiven_thenDeleteByIds() {
+            when(songBatchRepository.deleteAllById(List.of(1L, 2L))).thenReturn(1);
+
+            BulkWriteResult result = songBulkService.deleteSongs(new BulkDeleteRequest(List.of(1L, 2L, 1L), null));
+
+            assertEquals(1, result.affected());
+            verify(eventPublisher).publishEvent(new SongsDeletedEvent(List.of(1L, 2L)));
+            verify(songBatchRepository, never()).findIdsMatching(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should delete songs matching a filter")
+        void whenFilterGiven_thenDeleteMatchingIds() {
+            when(songBatchRepository.findIdsMatching(null, "Fela", null)).thenReturn(List.of(21L, 22L));
+            when(songBatchRepository.deleteAllById(List.of(21L, 22L))).thenReturn(2);
+
+            BulkWriteResult result = songBulkService.deleteSongs(
+                    new BulkDeleteRequest(null, new SongFilter(null, "Fela", null)));
+
+            assertEquals(2, result.affected());
+            verify(transactionManager).commit(any());
+            verify(eventPublisher).publishEvent(new SongsDeletedEvent(List.of(21L, 22L)));
+        }
+
+        @Test
+        @DisplayName("Should not publish anything when the filter matches nothing")
+        void whenFilterMatchesNothing_thenSkipEvents() {
+            when(songBatchRepository.findIdsMatching("Unknown", null, null)).thenReturn(List.of());
+
+            BulkWriteResult result = songBulkService.deleteSongs(
+                    new BulkDeleteRequest(List.of(), new SongFilter("Unknown", null, null)));
+
+            assertEquals(0, result.affected());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should require exactly one of ids and filter")
+        void whenTargetAmbiguous_thenThrowException() {
+            IllegalArgumentException missing = assertThrows(IllegalArgumentException.class,
+                    () -> songBulkService.deleteSongs(
+                            new BulkDeleteRequest(List.of(), new SongFilter(" ", null, null))));
+            IllegalArgumentException both = assertThrows(IllegalArgumentException.class,
+                    () -> songBulkService.deleteSongs(
+                            new BulkDeleteRequest(List.of(1L), new SongFilter("Zombie", null, null))));
+
+            assertEquals("Either ids or a filter must be provided", missing.getMessage());
+            assertEquals("Provide either ids or a filter, not both", both.getMessage());
+            verifyNoInteractions(songBatchRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Update Tests")
+    class BulkUpdateTests {
+
+        @Test
+        @DisplayName("Should update only the given columns and publish the ids with the changes")
+        void whenChangesGiven_thenUpdateColumns() {
+            Map<String, Object> columns = new LinkedHashMap<>();
+            columns.put("album", "Deluxe");
+            columns.put("album_normalized", "deluxe");
+            columns.put("release_year", 2024);
+            when(songBatchRepository.updateAll(List.of(1L, 2L), columns)).thenReturn(1);
+            SongChanges changes = new SongChanges(null, null, "Deluxe", null, 2024);
+
+            BulkWriteResult result = songBulkService.updateSongs(new BulkUpdateRequest(List.of(1L, 2L), null,
+                    changes));
+
+            assertEquals(1, result.affected());
+            verify(eventPublisher).publishEvent(new SongsUpdatedEvent(List.of(1L, 2L), changes));
+        }
+
+        @ParameterizedTest
+        @CsvSource(nullValues = "null", value = {
+                "' ', null, null, null, Song title is required",
+                "null, '', null, null, Artist name is required",
+                "null, null, 0, null, Duration must be greater than zero",
+                "null, null, null, 1800, Release year cannot be before 1877",
+                "null, null, null, 9999, Release year cannot be in the future",
+                "null, null, null, null, At least one field must be set"
+        })
+        @DisplayName("Should validate changes with the same rules as Song")
+        void whenChangesInvalid_thenThrowException(String title, String artist, Integer duration,
+                Integer releaseYear, String message) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> songBulkService.updateSongs(new BulkUpdateRequest(List.of(1L), null,
+                            new SongChanges(title, artist, null, duration, releaseYear))));
+
+            assertEquals(message, exception.getMessage());
+            verifyNoInteractions(songBatchRepository);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.musicplayer.service;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.event.SongsDeletedEvent;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.model.Song;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Song Cache Tests")
+public class SongCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SongCache songCache;
+    private Song song;
+
+    private final Function<Long, Song> loader = id -> {
+        loads.incrementAndGet();
+        return id.equals(song.getId()) ? song : null;
+    };
+
+    @BeforeEach
+    void setUp() {
+        MusicPlayerProperties properties = new MusicPlayerProperties();
+        properties.getCache().setSongTtl(Duration.ofMinutes(10));
+        songCache = new SongCache(properties, nanos::get);
+
+        song = new Song();
+        song.setId(1L);
+        song.setTitle("Dog Eat Dog II");
+        song.setArtist("Odumodublvck");
+        song.setAlbum("Eziokwu");
+        song.setDuration(240);
+        song.setReleaseYear(2023);
+    }
+
+    @Test
+    @DisplayName("Should load once and serve repeated lookups from memory")
+    void whenLoadedOnce_thenServeFromCache() {
+        assertSame(song, songCache.get(1L, loader));
+        assertSame(song, songCache.get(1L, loader));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, songCache.stats().hitCount());
+        assertEquals(1, songCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing songs")
+    void whenSongMissing_thenDoNotCache() {
+        assertNull(songCache.get(2L, loader));
+        assertNull(songCache.get(2L, loader));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should reload after the TTL has elapsed")
+    void whenTtlElapsed_thenReload() {
+        songCache.get(1L, loader);
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+        songCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict songs that are saved or deleted")
+    void whenSongChanges_thenInvalidate() {
+        songCache.get(1L, loader);
+        songCache.onSongSaved(new SongSavedEvent(song));
+        songCache.get(1L, loader);
+        songCache.onSongDeleted(new SongDeletedEvent(1L));
+        songCache.get(1L, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict songs touched by bulk writes")
+    void whenSongsChangeInBulk_thenInvalidate() {
+        songCache.get(1L, loader);
+        songCache.onSongsSaved(new SongsSavedEvent(List.of(song)));
+        songCache.get(1L, loader);
+        songCache.onSongsDeleted(new SongsDeletedEvent(List.of(1L, 2L)));
+        songCache.get(1L, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not keep rows bulk-loaded before a concurrent save")
+    void whenSavedDuringBulkLoad_thenDropLoadedRows() {
+        Song stale = new Song();
+        stale.setId(1L);
+        stale.setTitle("Stale");
+
+        Map<Long, Song> found = songCache.getAll(List.of(1L), ids -> {
+            songCache.onSongSaved(new SongSavedEvent(song));
+            return Map.of(1L, stale);
+        });
+
+        assertSame(stale, found.get(1L));
+        assertSame(song, songCache.get(1L, loader));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should keep bulk-loaded rows when no write happened during the load")
+    void whenNoWriteDuringBulkLoad_thenCacheLoadedRows() {
+        songCache.getAll(List.of(1L), ids -> Map.of(1L, song));
+
+        assertSame(song, songCache.get(1L, loader));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should expose hits and misses as cache metrics")
+    void whenBound_thenExposeCacheMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        songCache.bindTo(registry);
+
+        songCache.get(1L, loader);
+        songCache.get(1L, loader);
+
+        assertEquals(1, registry.get("cache.gets").tags("cache", "songs", "result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "songs", "result", "miss").functionCounter().count());
+    }
+}
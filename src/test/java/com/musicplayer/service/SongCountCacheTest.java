@@ -0,0 +1,61 @@
+package com.musicplayer.service;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.repository.SongRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Song Count Cache Tests")
+public class SongCountCacheTest {
+
+    @Mock
+    private SongRepository songRepository;
+
+    @Mock
+    private Clock clock;
+
+    private SongCountCache songCountCache;
+
+    @BeforeEach
+    void setUp() {
+        MusicPlayerProperties properties = new MusicPlayerProperties();
+        properties.getPagination().setCountCacheTtl(Duration.ofSeconds(30));
+        songCountCache = new SongCountCache(songRepository, properties, clock);
+    }
+
+    @Test
+    @DisplayName("Should count once and serve the cached value within the TTL")
+    void whenWithinTtl_thenServeCachedCount() {
+        when(clock.millis()).thenReturn(1_000L, 1_000L, 20_000L, 30_999L);
+        when(songRepository.count()).thenReturn(42L);
+
+        assertEquals(42L, songCountCache.get());
+        assertEquals(42L, songCountCache.get());
+        assertEquals(42L, songCountCache.get());
+
+        verify(songRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("Should recount once the TTL has elapsed")
+    void whenTtlElapsed_thenRecount() {
+        when(clock.millis()).thenReturn(0L, 0L, 31_000L, 31_000L);
+        when(songRepository.count()).thenReturn(42L, 43L);
+
+        assertEquals(42L, songCountCache.get());
+        assertEquals(43L, songCountCache.get());
+
+        verify(songRepository, times(2)).count();
+    }
+}
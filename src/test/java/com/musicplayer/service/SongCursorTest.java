@@ -0,0 +1,79 @@
+package com.musicplayer.service;
+
+import com.musicplayer.dto.SongView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Song Cursor Tests")
+public class SongCursorTest {
+
+    private SongView lastSong() {
+        return new SongView(7L, "Water: No Get Enemy", "Fela Kuti", null, 750, 1981, 0L);
+    }
+
+    @Test
+    @DisplayName("Should start from an empty keyset position")
+    void whenFirstPage_thenInitialPosition() {
+        SongCursor cursor = SongCursor.first("title", "asc");
+
+        assertTrue(cursor.position().isInitial());
+        assertEquals(Sort.by(Sort.Direction.ASC, "title", "id"), cursor.sort());
+    }
+
+    @Test
+    @DisplayName("Should round-trip sort key, direction and last id through the token")
+    void whenEncoded_thenDecodesToSameCursor() {
+        SongCursor cursor = SongCursor.after(SongCursor.first("title", "desc"), lastSong());
+
+        SongCursor decoded = SongCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+        KeysetScrollPosition position = decoded.position();
+        assertEquals("Water: No Get Enemy", position.getKeys().get("title"));
+        assertEquals(7L, position.getKeys().get("id"));
+        assertEquals(Sort.by(Sort.Direction.DESC, "title", "id"), decoded.sort());
+    }
+
+    @Test
+    @DisplayName("Should restore numeric sort values with their type")
+    void whenNumericSort_thenValueTypeRestored() {
+        SongCursor cursor = SongCursor.after(SongCursor.first("releaseYear", "asc"), lastSong());
+
+        SongCursor decoded = SongCursor.decode(cursor.encode());
+
+        assertEquals(1981, decoded.position().getKeys().get("releaseYear"));
+    }
+
+    @Test
+    @DisplayName("Should only sort by id once when sorting by id")
+    void whenSortById_thenSingleSortKey() {
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), SongCursor.first("id", "asc").sort());
+    }
+
+    @Test
+    @DisplayName("Should reject properties without a non-null keyset index")
+    void whenUnsupportedSort_thenThrowException() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> SongCursor.first("album", "asc"));
+
+        assertEquals("Cursor pagination is not supported for sortBy: album", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not base64!", "dGl0bGU", "dGl0bGU6QVNDOm5vdC1hbi1pZDp4" })
+    @DisplayName("Should reject malformed tokens")
+    void whenMalformedToken_thenThrowException(String token) {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> SongCursor.decode(token));
+
+        assertEquals("Invalid cursor", exception.getMessage());
+    }
+}
@@ -0,0 +1,145 @@
+package com.musicplayer.service;
+
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.BulkImportResult;
+import com.musicplayer.event.SongsSavedEvent;
+import com.musicplayer.model.Song;
+import com.musicplayer.repository.SongBatchRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Song Import Service Tests")
+public class SongImportServiceTest {
+
+    private static Validator validator;
+
+    @Mock
+    private SongBatchRepository songBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SongImportService songImportService;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeAll
+    static void createValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @BeforeEach
+    void setUp() {
+        MusicPlayerProperties properties = new MusicPlayerProperties();
+        properties.getBulk().setBatchSize(2);
+        songImportService = new SongImportService(songBatchRepository, new TransactionTemplate(transactionManager),
+                validator, eventPublisher, properties);
+    }
+
+    private static Song song(String title) {
+        Song song = new Song();
+        song.setTitle(title);
+        song.setArtist("Odumodublvck");
+        song.setAlbum("Eziokwu");
+        song.setDuration(240);
+        song.setReleaseYear(2023);
+        return song;
+    }
+
+    private void assignIds() {
+        doAnswer(invocation -> {
+            List<Song> songs = invocation.getArgument(0);
+            songs.forEach(song -> song.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(songBatchRepository).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should insert valid songs in batches of the configured size")
+    void whenSongsValid_thenInsertInBatches() {
+        assignIds();
+        List<Integer> batchSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<SongsSavedEvent>getArgument(0).songs().size());
+            return null;
+        }).when(eventPublisher).publishEvent(any(SongsSavedEvent.class));
+
+        List<Song> songs = List.of(song("A"), song("B"), song("C"), song("D"), song("E"));
+        BulkImportResult result = songImportService.importSongs(songs.iterator());
+
+        assertEquals(new BulkImportResult(5, 5, List.of()), result);
+        verify(songBatchRepository, times(3)).insertAll(anyList());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertTrue(songs.stream().allMatch(song -> song.getId() != null));
+    }
+
+    @Test
+    @DisplayName("Should report validation errors by row and import the rest")
+    void whenSongsInvalid_thenReportRowErrors() {
+        assignIds();
+        Song untitled = song("");
+        Song ancient = song("Ancient");
+        ancient.setReleaseYear(1800);
+        ancient.setDuration(0);
+
+        BulkImportResult result = songImportService.importSongs(
+                List.of(song("A"), untitled, ancient, song("D")).iterator());
+
+        assertEquals(4, result.received());
+        assertEquals(2, result.inserted());
+        assertEquals(List.of(
+                new BulkImportResult.RowError(1, Map.of("title", "Song title is required")),
+                new BulkImportResult.RowError(2, Map.of(
+                        "releaseYear", "Release year cannot be before 1877",
+                        "duration", "Duration must be greater than zero"))),
+                result.errors());
+        verify(songBatchRepository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch row by row to isolate the bad row")
+    void whenBatchFails_thenIsolateFailingRow() {
+        doAnswer(invocation -> {
+            List<Song> songs = invocation.getArgument(0);
+            if (songs.stream().anyMatch(song -> song.getTitle().equals("Too long"))) {
+                throw new DataIntegrityViolationException("Value too long for column title");
+            }
+            songs.forEach(song -> song.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(songBatchRepository).insertAll(anyList());
+
+        BulkImportResult result = songImportService.importSongs(
+                List.of(song("A"), song("Too long"), song("C")).iterator());
+
+        assertEquals(2, result.inserted());
+        assertEquals(List.of(new BulkImportResult.RowError(1, Map.of("song", "Value too long for column title"))),
+                result.errors());
+        verify(transactionManager, atLeastOnce()).rollback(any());
+        verify(eventPublisher, times(2)).publishEvent(any(SongsSavedEvent.class));
+    }
+}
@@ -1,8 +1,25 @@
 package com.musicplayer.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicplayer.config.MusicPlayerProperties;
+import com.musicplayer.dto.CursorPage;
+import com.musicplayer.dto.SongFields;
+import com.musicplayer.dto.SongView;
+import com.musicplayer.dto.Suggestion;
+import com.musicplayer.event.SongDeletedEvent;
+import com.musicplayer.event.SongSavedEvent;
+import com.musicplayer.exception.SearchIndexUnavailableException;
 import com.musicplayer.exception.SongNotFoundException;
 import com.musicplayer.model.Song;
 import com.musicplayer.repository.SongRepository;
+import com.musicplayer.search.SongField;
+import com.musicplayer.search.SongSearchIndex;
+import com.musicplayer.search.SongSuggester;
+import com.musicplayer.search.TextNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,17 +31,29 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Collections;
+import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -36,10 +65,45 @@ public class SongServiceTest {
     @Mock
     private SongRepository songRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SongCountCache songCountCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Spy
+    private SongCache songCache = new SongCache(new MusicPlayerProperties());
+
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(new MusicPlayerProperties());
+
+    @Spy
+    private SongSearchIndex searchIndex = new SongSearchIndex();
+
+    @Spy
+    private SongSuggester suggester = new SongSuggester(new MusicPlayerProperties());
+
+    @Spy
+    private SongPatcher songPatcher = new SongPatcher(new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MusicPlayerProperties properties = new MusicPlayerProperties();
+
     @InjectMocks
     private SongService songService;
 
     private Song song;
+    private SongView view;
 
     @BeforeEach
     void setUp() {
@@ -50,6 +114,8 @@ public class SongServiceTest {
         song.setAlbum("Eziokwu");
         song.setDuration(240);
         song.setReleaseYear(2023);
+
+        view = new SongView(1L, "Dog Eat Dog II", "Odumodublvck", "Eziokwu", 240, 2023, 0L);
     }
 
     @Nested
@@ -60,38 +126,80 @@ public class SongServiceTest {
         @DisplayName("Should return list of songs when songs exist")
         void whenSongsExist_thenReturnSongList() {
 
-            Song song2 = new Song();
-            song2.setId(2L);
-            song2.setTitle("Declan Rice");
-            song2.setArtist("Odumodublvck");
-            song2.setAlbum("Eziokwu");
-            song2.setDuration(200);
-            song2.setReleaseYear(2023);
-
-            List<Song> songs = Arrays.asList(song, song2);
+            SongView view2 = new SongView(2L, "Declan Rice", "Odumodublvck", "Eziokwu", 200, 2023, 0L);
 
-            when(songRepository.findAll()).thenReturn(songs);
+            when(songRepository.findAllBy()).thenReturn(Arrays.asList(view, view2));
 
-            List<Song> result = songService.getAllSongs();
+            List<SongView> result = songService.getAllSongs(SongFields.ALL);
 
             assertNotNull(result);
             assertEquals(2, result.size());
-            assertEquals("Dog Eat Dog II", result.get(0).getTitle());
-            assertEquals("Declan Rice", result.get(1).getTitle());
-            verify(songRepository, times(1)).findAll();
+            assertEquals("Dog Eat Dog II", result.get(0).title());
+            assertEquals("Declan Rice", result.get(1).title());
+            verify(songRepository, times(1)).findAllBy();
         }
 
         @Test
         @DisplayName("Should return empty list when no songs exist")
         void whenNoSongsExist_thenReturnEmptyList() {
 
-            when(songRepository.findAll()).thenReturn(Collections.emptyList());
+            when(songRepository.findAllBy()).thenReturn(Collections.emptyList());
 
-            List<Song> result = songService.getAllSongs();
+            List<SongView> result = songService.getAllSongs(SongFields.ALL);
 
             assertNotNull(result);
             assertTrue(result.isEmpty());
-            verify(songRepository, times(1)).findAll();
+            verify(songRepository, times(1)).findAllBy();
+        }
+
+        @Test
+        @DisplayName("Should select only the requested columns when fields are given")
+        void withSelectedFields_thenQueryOnlyThoseColumns() {
+            SongFields fields = SongFields.parse("title");
+            when(songRepository.findViews(fields, Sort.unsorted())).thenReturn(List.of(view));
+
+            List<SongView> result = songService.getAllSongs(fields);
+
+            assertEquals(List.of(view), result);
+            verify(songRepository, never()).findAllBy();
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream All Songs Tests")
+    class StreamAllSongsTests {
+
+        @Test
+        @DisplayName("Should pass every streamed song to the consumer and detach it")
+        void whenSongsExist_thenConsumeAndDetachEachSong() {
+
+            Song song2 = new Song();
+            song2.setId(2L);
+            song2.setTitle("Declan Rice");
+
+            when(songRepository.streamAll()).thenReturn(Stream.of(song, song2));
+
+            List<Song> consumed = new ArrayList<>();
+            songService.streamAllSongs(consumed::add);
+
+            assertEquals(Arrays.asList(song, song2), consumed);
+            verify(entityManager, times(1)).detach(song);
+            verify(entityManager, times(1)).detach(song2);
+            verify(songRepository, times(1)).streamAll();
+            verifyNoMoreInteractions(songRepository);
+        }
+
+        @Test
+        @DisplayName("Should close the underlying stream when the consumer fails")
+        void whenConsumerFails_thenCloseStream() {
+            boolean[] closed = { false };
+            when(songRepository.streamAll()).thenReturn(Stream.of(song).onClose(() -> closed[0] = true));
+
+            assertThrows(IllegalStateException.class, () -> songService.streamAllSongs(s -> {
+                throw new IllegalStateException("client went away");
+            }));
+
+            assertTrue(closed[0]);
         }
     }
 
@@ -147,6 +255,19 @@ public class SongServiceTest {
             assertEquals("Song with ID " + invalidId + " not found", exception.getMessage());
             verify(songRepository, times(1)).findById(invalidId);
         }
+
+        @Test
+        @DisplayName("Should serve repeated lookups from the cache until the song changes")
+        void whenSongRequestedTwice_thenQueryOnce() {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+
+            songService.getSongById(1L);
+            songService.getSongById(1L);
+            songCache.onSongSaved(new SongSavedEvent(song));
+            songService.getSongById(1L);
+
+            verify(songRepository, times(2)).findById(1L);
+        }
     }
 
     @Nested
@@ -173,15 +294,18 @@ public class SongServiceTest {
             Sort.Direction sortDirection = "asc".equalsIgnoreCase(direction)
                     ? Sort.Direction.ASC
                     : Sort.Direction.DESC;
-            Pageable pageable = PageRequest.of(0, 10, Sort.by(sortDirection, sortBy));
-            Page<Song> page = new PageImpl<>(Collections.singletonList(song));
+            Sort sort = "id".equals(sortBy)
+                    ? Sort.by(sortDirection, "id")
+                    : Sort.by(sortDirection, sortBy, "id");
+            Pageable pageable = PageRequest.of(0, 10, sort);
+            Page<SongView> page = new PageImpl<>(Collections.singletonList(view));
 
-            when(songRepository.findAll(pageable)).thenReturn(page);
+            when(songRepository.findPageBy(pageable)).thenReturn(page);
 
-            Page<Song> result = songService.getSongs(0, 10, sortBy, direction);
+            Page<SongView> result = songService.getSongs(0, 10, sortBy, direction, SongFields.ALL);
 
             assertEquals(1, result.getTotalElements());
-            verify(songRepository, times(1)).findAll(pageable);
+            verify(songRepository, times(1)).findPageBy(pageable);
         }
 
         @ParameterizedTest
@@ -193,29 +317,165 @@ public class SongServiceTest {
         })
         @DisplayName("Should return correct page for various page sizes")
         void withVariousPageSizes_thenReturnCorrectPage(int pageNumber, int pageSize) {
-            Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by("title").ascending());
-            Page<Song> page = new PageImpl<>(Collections.singletonList(song));
+            Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Direction.ASC, "title", "id"));
+            Page<SongView> page = new PageImpl<>(Collections.singletonList(view));
 
-            when(songRepository.findAll(pageable)).thenReturn(page);
+            when(songRepository.findPageBy(pageable)).thenReturn(page);
 
-            Page<Song> result = songService.getSongs(pageNumber, pageSize, "title", "asc");
+            Page<SongView> result = songService.getSongs(pageNumber, pageSize, "title", "asc", SongFields.ALL);
 
             assertEquals(1, result.getTotalElements());
-            verify(songRepository, times(1)).findAll(pageable);
+            verify(songRepository, times(1)).findPageBy(pageable);
+        }
+
+        @Test
+        @DisplayName("Should return a slice without counting when no total is requested")
+        void withoutCount_thenReturnSliceWithoutCountQuery() {
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title", "id"));
+            Slice<SongView> slice = new SliceImpl<>(Collections.singletonList(view), pageable, true);
+
+            when(songRepository.findSliceBy(pageable)).thenReturn(slice);
+
+            Slice<SongView> result = songService.getSongSlice(0, 10, "title", "asc", SongFields.ALL);
+
+            assertTrue(result.hasNext());
+            assertEquals(1, result.getNumberOfElements());
+            verify(songRepository, times(1)).findSliceBy(pageable);
+            verifyNoMoreInteractions(songRepository);
+            verifyNoInteractions(songCountCache);
+        }
+
+        @Test
+        @DisplayName("Should page over the requested columns when fields are given")
+        void withSelectedFields_thenPageOverThoseColumns() {
+            SongFields fields = SongFields.parse("artist");
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title", "id"));
+            when(songRepository.findViewPage(fields, pageable)).thenReturn(new PageImpl<>(List.of(view)));
+            when(songRepository.findViewSlice(fields, pageable))
+                    .thenReturn(new SliceImpl<>(List.of(view), pageable, false));
+
+            assertEquals(1, songService.getSongs(0, 10, "title", "asc", fields).getTotalElements());
+            assertFalse(songService.getSongSlice(0, 10, "title", "asc", fields).hasNext());
+            verify(songRepository, never()).findPageBy(any(Pageable.class));
+            verify(songRepository, never()).findSliceBy(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Should use the cached count as the estimated total")
+        void withEstimatedCount_thenUseCachedCount() {
+            Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "title", "id"));
+            when(songRepository.findSliceBy(pageable))
+                    .thenReturn(new SliceImpl<>(Collections.singletonList(view), pageable, true));
+            when(songCountCache.get()).thenReturn(42L);
+
+            Page<SongView> result = songService.getSongsWithEstimatedTotal(0, 1, "title", "asc", SongFields.ALL);
+
+            assertEquals(42L, result.getTotalElements());
+            assertEquals(42, result.getTotalPages());
+            verify(songRepository, never()).findPageBy(any(Pageable.class));
+            verify(songRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Should never report fewer songs than the slice has already seen")
+        void withStaleEstimate_thenTotalCoversSeenSongs() {
+            Pageable pageable = PageRequest.of(3, 1, Sort.by(Sort.Direction.ASC, "title", "id"));
+            when(songRepository.findSliceBy(pageable))
+                    .thenReturn(new SliceImpl<>(Collections.singletonList(view), pageable, true));
+            when(songCountCache.get()).thenReturn(2L);
+
+            Page<SongView> result = songService.getSongsWithEstimatedTotal(3, 1, "title", "asc", SongFields.ALL);
+
+            assertEquals(5L, result.getTotalElements());
+            assertTrue(result.hasNext());
         }
 
         @Test
         @DisplayName("Should use default ascending sort for invalid direction")
         void withInvalidSortDirection_thenUseDefaultAscending() {
-            Pageable pageable = PageRequest.of(0, 10, Sort.by("title").ascending());
-            Page<Song> page = new PageImpl<>(Collections.singletonList(song));
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title", "id"));
+            Page<SongView> page = new PageImpl<>(Collections.singletonList(view));
 
-            when(songRepository.findAll(pageable)).thenReturn(page);
+            when(songRepository.findPageBy(pageable)).thenReturn(page);
 
-            Page<Song> result = songService.getSongs(0, 10, "title", "invalid");
+            Page<SongView> result = songService.getSongs(0, 10, "title", "invalid", SongFields.ALL);
 
             assertEquals(1, result.getTotalElements());
-            verify(songRepository, times(1)).findAll(pageable);
+            verify(songRepository, times(1)).findPageBy(pageable);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "version", "lyrics", "title; drop table song" })
+        @DisplayName("Should reject sort fields without an index")
+        void withUnindexedSortField_thenThrowException(String sortBy) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> songService.getSongs(0, 10, sortBy, "asc", SongFields.ALL));
+
+            assertEquals("Sort field must be one of: id, title, artist, album, duration, releaseYear",
+                    exception.getMessage());
+            verifyNoInteractions(songRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cursor Pagination Tests")
+    class CursorPaginationTests {
+
+        @Test
+        @DisplayName("Should return next cursor pointing after the last song of the window")
+        void whenMoreSongsExist_thenReturnNextCursor() {
+            Window<SongView> window = Window.from(List.of(view), index -> ScrollPosition.keyset(), true);
+            when(songRepository.findBy(ScrollPosition.keyset(), Sort.by(Sort.Direction.ASC, "title", "id"),
+                    Limit.of(1))).thenReturn(window);
+
+            CursorPage<SongView> result = songService.getSongsAfter(null, 1, "title", "asc", false);
+
+            assertEquals(List.of(view), result.content());
+            assertTrue(result.hasNext());
+            assertNull(result.totalElements());
+            SongCursor next = SongCursor.decode(result.nextCursor());
+            assertEquals(song.getId(), next.lastId());
+            assertEquals(song.getTitle(), next.lastValue());
+            verify(songRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Should seek from the position encoded in the cursor")
+        void whenCursorProvided_thenSeekFromEncodedPosition() {
+            SongCursor cursor = SongCursor.after(SongCursor.first("duration", "desc"), view);
+            Window<SongView> window = Window.from(Collections.emptyList(), index -> ScrollPosition.keyset());
+            when(songRepository.findBy(any(), any(), any())).thenReturn(window);
+
+            CursorPage<SongView> result = songService.getSongsAfter(cursor.encode(), 10, "title", "asc", false);
+
+            assertTrue(result.content().isEmpty());
+            assertFalse(result.hasNext());
+            assertNull(result.nextCursor());
+            verify(songRepository, times(1)).findBy(cursor.position(),
+                    Sort.by(Sort.Direction.DESC, "duration", "id"), Limit.of(10));
+        }
+
+        @Test
+        @DisplayName("Should count songs only when the total is requested")
+        void whenTotalRequested_thenCountSongs() {
+            Window<SongView> window = Window.from(List.of(view), index -> ScrollPosition.keyset());
+            when(songRepository.findBy(any(), any(), any())).thenReturn(window);
+            when(songRepository.count()).thenReturn(42L);
+
+            CursorPage<SongView> result = songService.getSongsAfter(null, 10, "title", "asc", true);
+
+            assertEquals(42L, result.totalElements());
+            verify(songRepository, times(1)).count();
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, -1 })
+        @DisplayName("Should reject non-positive page sizes")
+        void whenInvalidSize_thenThrowException(int size) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> songService.getSongsAfter(null, size, "title", "asc", false));
+
+            verifyNoInteractions(songRepository);
         }
     }
 
@@ -241,6 +501,20 @@ public class SongServiceTest {
 
             verify(songRepository, times(1)).save(song);
             verifyNoMoreInteractions(songRepository);
+            verify(eventPublisher, times(1)).publishEvent(new SongSavedEvent(song));
+        }
+
+        @Test
+        @DisplayName("Should store lowercased, accent-folded search columns")
+        void whenSavingSong_thenNormalizeSearchColumns() {
+            song.setTitle("Déjà Vu");
+            when(songRepository.save(song)).thenReturn(song);
+
+            songService.saveSong(song);
+
+            assertEquals("deja vu", song.getTitleNormalized());
+            assertEquals("odumodublvck", song.getArtistNormalized());
+            assertEquals("eziokwu", song.getAlbumNormalized());
         }
 
         @Test
@@ -288,20 +562,20 @@ public class SongServiceTest {
         @DisplayName("Should delete song successfully when it exists")
         void whenSongExists_thenDeleteSuccessfully() {
             Long songId = 1L;
-            when(songRepository.existsById(songId)).thenReturn(true);
+            when(songRepository.deleteSongById(songId)).thenReturn(1);
 
             songService.deleteSong(songId);
 
-            verify(songRepository, times(1)).existsById(songId);
-            verify(songRepository, times(1)).deleteById(songId);
+            verify(songRepository, times(1)).deleteSongById(songId);
             verifyNoMoreInteractions(songRepository);
+            verify(eventPublisher, times(1)).publishEvent(new SongDeletedEvent(songId));
         }
 
         @Test
         @DisplayName("Should throw exception when song to delete does not exist")
         void whenSongNotExists_thenThrowException() {
             Long songId = 1L;
-            when(songRepository.existsById(songId)).thenReturn(false);
+            when(songRepository.deleteSongById(songId)).thenReturn(0);
 
             SongNotFoundException exception = assertThrows(
                     SongNotFoundException.class,
@@ -309,23 +583,23 @@ public class SongServiceTest {
 
             assertEquals("Song with ID " + songId + " not found", exception.getMessage());
 
-            verify(songRepository, times(1)).existsById(songId);
-            verify(songRepository, never()).deleteById(songId);
+            verify(songRepository, times(1)).deleteSongById(songId);
             verifyNoMoreInteractions(songRepository);
+            verifyNoInteractions(eventPublisher);
         }
 
         @ParameterizedTest
         @DisplayName("Should throw exception for invalid song IDs during deletion")
         @ValueSource(longs = { -1L, 0L, 999L })
         void whenInvalidIdProvided_thenThrowException(Long invalidId) {
-            when(songRepository.existsById(invalidId)).thenReturn(false);
+            when(songRepository.deleteSongById(invalidId)).thenReturn(0);
 
             SongNotFoundException exception = assertThrows(
                     SongNotFoundException.class,
                     () -> songService.deleteSong(invalidId));
 
             assertEquals("Song with ID " + invalidId + " not found", exception.getMessage());
-            verify(songRepository, times(1)).existsById(invalidId);
+            verify(songRepository, times(1)).deleteSongById(invalidId);
             verify(songRepository, never()).deleteById(any());
         }
     }
@@ -360,6 +634,7 @@ public class SongServiceTest {
             verify(songRepository, times(1)).findById(1L);
             verify(songRepository, times(1)).save(any(Song.class));
             verifyNoMoreInteractions(songRepository);
+            verify(eventPublisher, times(1)).publishEvent(new SongSavedEvent(result));
         }
 
         @Test
@@ -401,6 +676,143 @@ public class SongServiceTest {
             verify(songRepository, times(1)).findById(invalidId);
             verify(songRepository, never()).save(any());
         }
+
+        @Test
+        @DisplayName("Should reject update carrying a stale version")
+        void whenVersionIsStale_thenThrowConflict() {
+            song.setVersion(3L);
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+            Song updatedSong = new Song();
+            updatedSong.setTitle("Declan Rice");
+            updatedSong.setArtist("Odumodublvck");
+            updatedSong.setDuration(200);
+            updatedSong.setReleaseYear(2023);
+            updatedSong.setVersion(2L);
+
+            assertThrows(OptimisticLockingFailureException.class, () -> songService.updateSong(1L, updatedSong));
+
+            assertEquals("Dog Eat Dog II", song.getTitle());
+            verify(songRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Patch Song Tests")
+    class PatchSongTests {
+
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        private JsonNode patch(String json) throws Exception {
+            return objectMapper.readTree(json);
+        }
+
+        @BeforeEach
+        void setUp() {
+            song.setVersion(2L);
+        }
+
+        @Test
+        @DisplayName("Should change only the fields present in the patch")
+        void whenFieldsPresent_thenOnlyThoseChange() throws Exception {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+            when(songRepository.save(any(Song.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Song result = songService.patchSong(1L, patch("{\"duration\": 250}"));
+
+            assertEquals(250, result.getDuration());
+            assertEquals("Dog Eat Dog II", result.getTitle());
+            assertEquals("Odumodublvck", result.getArtist());
+            assertEquals("Eziokwu", result.getAlbum());
+            assertEquals(2023, result.getReleaseYear());
+            verify(eventPublisher).publishEvent(new SongSavedEvent(result));
+        }
+
+        @Test
+        @DisplayName("Should clear album when the patch sets it to null")
+        void whenAlbumNull_thenAlbumRemoved() throws Exception {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+            when(songRepository.save(any(Song.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Song result = songService.patchSong(1L, patch("{\"album\": null}"));
+
+            assertNull(result.getAlbum());
+            assertEquals("Dog Eat Dog II", result.getTitle());
+        }
+
+        @Test
+        @DisplayName("Should not write when the patch changes nothing")
+        void whenPatchEmpty_thenNoWrite() throws Exception {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+
+            Song result = songService.patchSong(1L, patch("{\"version\": 2}"));
+
+            assertSame(song, result);
+            verify(songRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should not write or publish when the patch repeats the current values")
+        void whenPatchRepeatsValues_thenNoWrite() throws Exception {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+
+            Song result = songService.patchSong(1L, patch("{\"title\": \"Dog Eat Dog II\", \"releaseYear\": 2023}"));
+
+            assertSame(song, result);
+            verify(songRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should reject a patch carrying a stale version")
+        void whenVersionIsStale_thenThrowConflict() throws Exception {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+
+            assertThrows(OptimisticLockingFailureException.class,
+                    () -> songService.patchSong(1L, patch("{\"version\": 1, \"title\": \"Other\"}")));
+
+            assertEquals("Dog Eat Dog II", song.getTitle());
+            verify(songRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject a patch that breaks validation")
+        void whenPatchInvalid_thenThrowConstraintViolation() throws Exception {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+
+            ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+                    () -> songService.patchSong(1L, patch("{\"title\": null, \"duration\": -5}")));
+
+            assertEquals(2, exception.getConstraintViolations().size());
+            verify(songRepository, never()).save(any());
+        }
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "[1, 2]|Merge patch must be a JSON object",
+                "{\"genre\": \"Afrobeats\"}|Unknown field: genre",
+                "{\"id\": 7}|Song ID cannot be changed",
+                "{\"duration\": \"long\"}|Invalid value for field: duration"
+        })
+        @DisplayName("Should reject malformed patches")
+        void whenPatchMalformed_thenThrowException(String json, String message) throws Exception {
+            when(songRepository.findById(1L)).thenReturn(Optional.of(song));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> songService.patchSong(1L, patch(json)));
+
+            assertEquals(message, exception.getMessage());
+            verify(songRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when patching non-existent song")
+        void whenSongNotExists_thenThrowException() throws Exception {
+            when(songRepository.findById(9L)).thenReturn(Optional.empty());
+
+            assertThrows(SongNotFoundException.class, () -> songService.patchSong(9L, patch("{}")));
+        }
     }
 
     @Nested
@@ -411,7 +823,7 @@ public class SongServiceTest {
         @DisplayName("Should return songs when artist exists")
         void whenArtistExists_thenReturnSongs() {
             String artist = "Odumodublvck";
-            when(songRepository.findByArtistContainingIgnoreCase(artist))
+            when(songRepository.findByArtistNormalizedContaining("odumodublvck"))
                     .thenReturn(Arrays.asList(song));
 
             List<Song> results = songService.searchSongsByArtist(artist);
@@ -426,14 +838,14 @@ public class SongServiceTest {
             assertEquals(240, resultSong.getDuration());
             assertEquals(2023, resultSong.getReleaseYear());
 
-            verify(songRepository, times(1)).findByArtistContainingIgnoreCase(artist);
+            verify(songRepository, times(1)).findByArtistNormalizedContaining("odumodublvck");
             verifyNoMoreInteractions(songRepository);
         }
 
         @Test
         @DisplayName("Should throw exception when artist does not exist")
         void whenArtistNotExists_thenThrowException() {
-            when(songRepository.findByArtistContainingIgnoreCase("Unknown"))
+            when(songRepository.findByArtistNormalizedContaining("unknown"))
                     .thenReturn(Collections.emptyList());
 
             SongNotFoundException exception = assertThrows(
@@ -441,7 +853,7 @@ public class SongServiceTest {
                     () -> songService.searchSongsByArtist("Unknown"));
 
             assertEquals("No songs found for artist: Unknown", exception.getMessage());
-            verify(songRepository, times(1)).findByArtistContainingIgnoreCase("Unknown");
+            verify(songRepository, times(1)).findByArtistNormalizedContaining("unknown");
             verifyNoMoreInteractions(songRepository);
         }
 
@@ -466,7 +878,7 @@ public class SongServiceTest {
         @Test
         @DisplayName("Should return songs when album exists")
         void whenAlbumExists_thenReturnSongs() {
-            when(songRepository.findByAlbumContainingIgnoreCase("Eziokwu"))
+            when(songRepository.findByAlbumNormalizedContaining("eziokwu"))
                     .thenReturn(Arrays.asList(song));
 
             List<Song> results = songService.searchSongsByAlbum("Eziokwu");
@@ -481,13 +893,13 @@ public class SongServiceTest {
             assertEquals(240, foundSong.getDuration());
             assertEquals(2023, foundSong.getReleaseYear());
 
-            verify(songRepository, times(1)).findByAlbumContainingIgnoreCase("Eziokwu");
+            verify(songRepository, times(1)).findByAlbumNormalizedContaining("eziokwu");
         }
 
         @Test
         @DisplayName("Should throw exception when album does not exist")
         void whenAlbumNotExists_thenThrowException() {
-            when(songRepository.findByAlbumContainingIgnoreCase("Unknown"))
+            when(songRepository.findByAlbumNormalizedContaining("unknown"))
                     .thenReturn(Collections.emptyList());
 
             SongNotFoundException exception = assertThrows(
@@ -496,7 +908,7 @@ public class SongServiceTest {
 
             assertEquals("No songs found for album: Unknown", exception.getMessage());
 
-            verify(songRepository, times(1)).findByAlbumContainingIgnoreCase("Unknown");
+            verify(songRepository, times(1)).findByAlbumNormalizedContaining("unknown");
             verifyNoMoreInteractions(songRepository);
         }
 
@@ -521,7 +933,7 @@ public class SongServiceTest {
         @Test
         @DisplayName("Should return songs when title exists")
         void whenTitleExists_thenReturnSongs() {
-            when(songRepository.findByTitleContainingIgnoreCase("Dog Eat Dog II"))
+            when(songRepository.findByTitleNormalizedContaining("dog eat dog ii"))
                     .thenReturn(Arrays.asList(song));
 
             List<Song> results = songService.searchSongsByTitle("Dog Eat Dog II");
@@ -534,13 +946,31 @@ public class SongServiceTest {
             assertEquals(240, results.get(0).getDuration());
             assertEquals(2023, results.get(0).getReleaseYear());
 
-            verify(songRepository, times(1)).findByTitleContainingIgnoreCase("Dog Eat Dog II");
+            verify(songRepository, times(1)).findByTitleNormalizedContaining("dog eat dog ii");
+        }
+
+        @Test
+        @DisplayName("Should fold accents the same way on the database fallback and the index")
+        void whenAccentedTitle_thenBothPathsMatchUnaccentedQuery() {
+            Song accented = new Song();
+            accented.setId(31L);
+            accented.setTitle("Déjà Vu");
+            accented.setArtist("Odumodublvck");
+            when(songRepository.findByTitleNormalizedContaining("deja")).thenReturn(List.of(accented));
+
+            assertEquals(List.of(accented), songService.searchSongsByTitle("DEJA"));
+
+            searchIndex.rebuild(consumer -> consumer.accept(accented));
+            when(songRepository.findAllById(List.of(31L))).thenReturn(List.of(accented));
+
+            assertEquals(List.of(accented), songService.searchSongsByTitle("ja vu"));
+            verify(songRepository, never()).findByTitleNormalizedContaining("ja vu");
         }
 
         @Test
         @DisplayName("Should throw exception when title does not exist")
         void whenTitleNotExists_thenThrowException() {
-            when(songRepository.findByTitleContainingIgnoreCase("Unknown"))
+            when(songRepository.findByTitleNormalizedContaining("unknown"))
                     .thenReturn(Collections.emptyList());
 
             SongNotFoundException exception = assertThrows(
@@ -549,7 +979,7 @@ public class SongServiceTest {
 
             assertEquals("No songs found with title: Unknown", exception.getMessage());
 
-            verify(songRepository, times(1)).findByTitleContainingIgnoreCase("Unknown");
+            verify(songRepository, times(1)).findByTitleNormalizedContaining("unknown");
             verifyNoMoreInteractions(songRepository);
         }
 
@@ -579,8 +1009,9 @@ public class SongServiceTest {
             String album = "Eziokwu";
 
             when(songRepository
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            title, artist, album))
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            TextNormalizer.normalize(title), TextNormalizer.normalize(artist),
+                            TextNormalizer.normalize(album)))
                     .thenReturn(Arrays.asList(song));
 
             List<Song> results = songService.searchSongs(title, artist, album);
@@ -596,8 +1027,9 @@ public class SongServiceTest {
             assertEquals(2023, resultSong.getReleaseYear());
 
             verify(songRepository, times(1))
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            title, artist, album);
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            TextNormalizer.normalize(title), TextNormalizer.normalize(artist),
+                            TextNormalizer.normalize(album));
             verifyNoMoreInteractions(songRepository);
         }
 
@@ -609,8 +1041,9 @@ public class SongServiceTest {
             String album = "Unknown";
 
             when(songRepository
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            title, artist, album))
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            TextNormalizer.normalize(title), TextNormalizer.normalize(artist),
+                            TextNormalizer.normalize(album)))
                     .thenReturn(Collections.emptyList());
 
             SongNotFoundException exception = assertThrows(
@@ -621,8 +1054,9 @@ public class SongServiceTest {
                     exception.getMessage());
 
             verify(songRepository, times(1))
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            title, artist, album);
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            TextNormalizer.normalize(title), TextNormalizer.normalize(artist),
+                            TextNormalizer.normalize(album));
             verifyNoMoreInteractions(songRepository);
         }
 
@@ -638,8 +1072,9 @@ public class SongServiceTest {
         @DisplayName("Should return songs with partial criteria")
         void withPartialCriteria_thenReturnMatchingSongs(String title, String artist, String album) {
             when(songRepository
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            title, artist, album))
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            TextNormalizer.normalize(title), TextNormalizer.normalize(artist),
+                            TextNormalizer.normalize(album)))
                     .thenReturn(Arrays.asList(song));
 
             List<Song> results = songService.searchSongs(title, artist, album);
@@ -647,8 +1082,9 @@ public class SongServiceTest {
             assertNotNull(results);
             assertEquals(1, results.size());
             verify(songRepository, times(1))
-                    .findByTitleContainingIgnoreCaseAndArtistContainingIgnoreCaseAndAlbumContainingIgnoreCase(
-                            title, artist, album);
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            TextNormalizer.normalize(title), TextNormalizer.normalize(artist),
+                            TextNormalizer.normalize(album));
         }
 
         @ParameterizedTest
@@ -672,4 +1108,272 @@ public class SongServiceTest {
             verifyNoInteractions(songRepository);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Indexed Search Tests")
+    class IndexedSearchTests {
+
+        private Song zombie;
+
+        @BeforeEach
+        void buildIndex() {
+            zombie = new Song();
+            zombie.setId(21L);
+            zombie.setTitle("Zombie");
+            zombie.setArtist("Fela Kuti");
+            zombie.setDuration(620);
+            zombie.setReleaseYear(1980);
+
+            searchIndex.rebuild(consumer -> List.of(song, zombie).forEach(consumer));
+        }
+
+        @Test
+        @DisplayName("Should resolve title matches from the index instead of a LIKE query")
+        void whenIndexReady_thenSearchByTitleUsesIndex() {
+            when(songRepository.findAllById(List.of(1L))).thenReturn(List.of(song));
+
+            List<Song> results = songService.searchSongsByTitle("eat dog");
+
+            assertEquals(List.of(song), results);
+            verify(songRepository, times(1)).findAllById(List.of(1L));
+            verifyNoMoreInteractions(songRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw without touching the database when the index has no match")
+        void whenIndexHasNoMatch_thenThrowWithoutQuery() {
+            SongNotFoundException exception = assertThrows(
+                    SongNotFoundException.class,
+                    () -> songService.searchSongsByArtist("Unknown"));
+
+            assertEquals("No songs found for artist: Unknown", exception.getMessage());
+            verifyNoInteractions(songRepository);
+        }
+
+        @Test
+        @DisplayName("Should keep the SQL rule that songs without an album never match combined search")
+        void whenAlbumMissing_thenCombinedSearchSkipsSong() {
+            assertThrows(SongNotFoundException.class, () -> songService.searchSongs("Zombie", "", ""));
+
+            verifyNoInteractions(songRepository);
+        }
+
+        @Test
+        @DisplayName("Should serve repeated searches from cached ids and cached songs")
+        void whenSearchRepeated_thenReuseCachedResults() {
+            when(songRepository.findAllById(List.of(1L))).thenReturn(List.of(song));
+
+            songService.searchSongsByTitle("EAT DOG");
+            List<Song> results = songService.searchSongsByTitle("eat dog");
+
+            assertEquals(List.of(song), results);
+            verify(searchIndex, times(1)).findContaining(SongField.TITLE, "EAT DOG");
+            verify(songRepository, times(1)).findAllById(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("Should return ranked results in index order")
+        void whenRankedSearch_thenReturnSongsInRankOrder() {
+            when(songRepository.findAllById(List.of(21L, 1L))).thenReturn(List.of(song, zombie));
+
+            List<Song> results = songService.searchSongsRanked("zombie fela dog", 10);
+
+            assertEquals(List.of(zombie, song), results);
+        }
+
+        @Test
+        @DisplayName("Should index saved songs through the published event")
+        void whenSongSaved_thenEventPublishedForIndex() {
+            when(songRepository.save(song)).thenReturn(song);
+
+            songService.saveSong(song);
+
+            verify(eventPublisher, times(1)).publishEvent(new SongSavedEvent(song));
+        }
+    }
+
+    @Nested
+    @DisplayName("Ranked Search Validation Tests")
+    class RankedSearchValidationTests {
+
+        @Test
+        @DisplayName("Should fail with service unavailable until the index is built")
+        void whenIndexNotReady_thenThrowUnavailable() {
+            assertThrows(SearchIndexUnavailableException.class, () -> songService.searchSongsRanked("love", 10));
+
+            verifyNoInteractions(songRepository);
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = { " ", "\t" })
+        @DisplayName("Should reject blank queries")
+        void whenBlankQuery_thenThrowException(String query) {
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> songService.searchSongsRanked(query, 10));
+
+            assertEquals("Query cannot be blank", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive limit")
+        void whenInvalidLimit_thenThrowException() {
+            assertThrows(IllegalArgumentException.class, () -> songService.searchSongsRanked("love", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Prefix Search Tests")
+    class PrefixSearchTests {
+
+        @Test
+        @DisplayName("Should query the normalized column with a normalized prefix")
+        void whenPrefixGiven_thenSearchNormalizedColumn() {
+            when(songRepository.findByArtistNormalizedStartingWithOrderByArtistNormalizedAscIdAsc(
+                    "odumo", Limit.of(5))).thenReturn(List.of(song));
+
+            List<Song> results = songService.searchSongsByPrefix("artist", " ÒDUMO ", 5);
+
+            assertEquals(List.of(song), results);
+            verifyNoInteractions(searchIndex);
+        }
+
+        @Test
+        @DisplayName("Should throw when no song starts with the prefix")
+        void whenNoMatch_thenThrowNotFound() {
+            when(songRepository.findByTitleNormalizedStartingWithOrderByTitleNormalizedAscIdAsc("zz", Limit.of(20)))
+                    .thenReturn(List.of());
+
+            SongNotFoundException exception = assertThrows(SongNotFoundException.class,
+                    () -> songService.searchSongsByPrefix("title", "zz", 20));
+
+            assertEquals("No songs found with title starting with: zz", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = { " ", "\t" })
+        @DisplayName("Should reject blank prefixes")
+        void whenBlankPrefix_thenThrowException(String prefix) {
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> songService.searchSongsByPrefix("title", prefix, 20));
+
+            assertEquals("Prefix cannot be blank", exception.getMessage());
+            verifyNoInteractions(songRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields and a non-positive limit")
+        void whenInvalidArguments_thenThrowException() {
+            assertThrows(IllegalArgumentException.class, () -> songService.searchSongsByPrefix("year", "d", 20));
+            assertThrows(IllegalArgumentException.class, () -> songService.searchSongsByPrefix("title", "d", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Result Cache Tests")
+    class SearchResultCacheTests {
+
+        @Test
+        @DisplayName("Should cache misses so repeated empty searches skip the database")
+        void whenSearchMisses_thenCacheEmptyResult() {
+            when(songRepository.findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                    "unknown", "", "")).thenReturn(List.of());
+
+            assertThrows(SongNotFoundException.class, () -> songService.searchSongs("Unknown", null, null));
+            assertThrows(SongNotFoundException.class, () -> songService.searchSongs(" unknown ", null, null));
+
+            verify(songRepository, times(1))
+                    .findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                            "unknown", "", "");
+            verifyNoMoreInteractions(songRepository);
+        }
+
+        @Test
+        @DisplayName("Should query again once a matching song is saved")
+        void whenMatchingSongSaved_thenSearchAgain() {
+            when(songRepository.findByArtistNormalizedContaining("odumo")).thenReturn(List.of(), List.of(song));
+            when(songRepository.findAllById(List.of(1L))).thenReturn(List.of(song));
+
+            assertThrows(SongNotFoundException.class, () -> songService.searchSongsByArtist("odumo"));
+            searchResultCache.onSongSaved(new SongSavedEvent(song));
+
+            assertEquals(List.of(song), songService.searchSongsByArtist("odumo"));
+            assertEquals(List.of(song), songService.searchSongsByArtist("odumo"));
+            verify(songRepository, times(2)).findByArtistNormalizedContaining("odumo");
+        }
+    }
+
+    @Nested
+    @DisplayName("Empty Search Result Tests")
+    class EmptySearchResultTests {
+
+        @Test
+        @DisplayName("Should throw a not-found exception without capturing a stack trace")
+        void whenSearchMisses_thenThrowStacklessException() {
+            when(songRepository.findByTitleNormalizedContaining("unknown")).thenReturn(List.of());
+
+            SongNotFoundException exception = assertThrows(
+                    SongNotFoundException.class,
+                    () -> songService.searchSongsByTitle("Unknown"));
+
+            assertEquals(0, exception.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Should return an empty list when misses are not reported as not found")
+        void whenEmptyAsNotFoundDisabled_thenReturnEmptyList() {
+            properties.getSearch().setEmptyAsNotFound(false);
+            when(songRepository.findByArtistNormalizedContaining("unknown")).thenReturn(List.of());
+            when(songRepository.findByTitleNormalizedContainingAndArtistNormalizedContainingAndAlbumNormalizedContaining(
+                    "unknown", "", "")).thenReturn(List.of());
+
+            assertEquals(List.of(), songService.searchSongsByArtist("Unknown"));
+            assertEquals(List.of(), songService.searchSongs("Unknown", null, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Suggest Tests")
+    class SuggestTests {
+
+        @Test
+        @DisplayName("Should fail with service unavailable until the suggester is built")
+        void whenSuggesterNotReady_thenThrowUnavailable() {
+            assertThrows(SearchIndexUnavailableException.class, () -> songService.suggest("artist", "b", 5));
+        }
+
+        @Test
+        @DisplayName("Should return completions for the requested field")
+        void whenSuggesting_thenReturnCompletions() {
+            suggester.rebuild(consumer -> consumer.accept(song));
+
+            assertEquals(List.of(new Suggestion("Odumodublvck", 1)), songService.suggest("Artist", "odu", 5));
+            assertEquals(List.of(), songService.suggest("title", "odu", 5));
+            verifyNoInteractions(songRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields")
+        void whenUnknownField_thenThrowException() {
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> songService.suggest("genre", "b", 5));
+
+            assertEquals("Field must be one of: title, artist, album", exception.getMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 11 })
+        @DisplayName("Should reject limits outside the configured range")
+        void whenInvalidLimit_thenThrowException(int limit) {
+            IllegalArgumentException exception = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> songService.suggest("artist", "b", limit));
+
+            assertEquals("Limit must be between 1 and 10", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Schema Migration Tests")
+public class SchemaMigrationTest {
+
+    @Test
+    @DisplayName("Should bring a database imported from the original dump up to the current schema")
+    void whenBaselinedFromOriginalDump_thenMigrateToCurrentSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:original-dump;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table song ("
+                + "id bigint not null auto_increment, "
+                + "album varchar(255) default null, "
+                + "artist varchar(255) default null, "
+                + "duration int not null, "
+                + "release_year int not null, "
+                + "title varchar(255) default null, "
+                + "primary key (id))");
+        jdbcTemplate.update("insert into song (album, artist, duration, release_year, title) "
+                + "values ('Renaissance', 'Beyoncé', 240, 2022, 'Cuff It')");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        Map<String, Object> song = jdbcTemplate.queryForMap(
+                "select version, title_normalized, artist_normalized from song");
+        assertEquals(0L, ((Number) song.get("version")).longValue());
+        assertEquals("cuff it", song.get("title_normalized"));
+        assertEquals("beyonce", song.get("artist_normalized"));
+        assertEquals(0L, jdbcTemplate.queryForObject("select version from catalog_version", Long.class));
+    }
+}